@@ -0,0 +1,260 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.MembersInjector;
+import com.google.inject.Module;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.TypeConverterBinding;
+
+/**
+ * An {@link Injector} that presents a parent injector and its independent child injectors
+ * as one. Keys bound in a child are served by that child, and so are just-in-time
+ * bindings and members injection that need a key bound in the child. Everything else is
+ * served by the parent. Child injectors are created from the parent, with the keys of the
+ * children bound to the children that own them.
+ *
+ * @author Dave Syer
+ */
+class CompositeInjector implements Injector {
+
+	private final Injector parent;
+
+	private final List<Injector> children;
+
+	private final List<Set<Key<?>>> childKeys;
+
+	private final Map<Key<?>, Injector> routes = new ConcurrentHashMap<>();
+
+	CompositeInjector(Injector parent, List<Injector> children, List<Set<Key<?>>> childKeys) {
+		this.parent = parent;
+		this.children = children;
+		this.childKeys = childKeys;
+		for (int i = 0; i < children.size(); i++) {
+			for (Key<?> key : childKeys.get(i)) {
+				this.routes.put(key, children.get(i));
+			}
+		}
+	}
+
+	private Injector route(Key<?> key) {
+		Injector injector = this.routes.get(key);
+		if (injector == null) {
+			// A just-in-time binding has to be created by the child that binds its
+			// dependencies (another child would create its own copies of them)
+			injector = owner(key, new HashSet<>());
+			this.routes.put(key, injector);
+		}
+		return injector;
+	}
+
+	private Injector owner(Key<?> key, Set<Key<?>> visited) {
+		Injector owner = this.routes.get(key);
+		if (owner != null && owner != this.parent) {
+			return owner;
+		}
+		if (owner != null || !visited.add(key)) {
+			return this.parent;
+		}
+		Key<?> provided = InjectorPartitions.providedKey(key);
+		if (provided != null) {
+			return owner(provided, visited);
+		}
+		if (key.getAnnotationType() != null) {
+			return this.parent;
+		}
+		return owner(InjectorPartitions.justInTimeDependencies(key.getTypeLiteral()), visited);
+	}
+
+	private Injector owner(Set<Key<?>> dependencies, Set<Key<?>> visited) {
+		for (Key<?> dependency : dependencies) {
+			Injector owner = owner(dependency, visited);
+			if (owner != this.parent) {
+				return owner;
+			}
+		}
+		return this.parent;
+	}
+
+	@Override
+	public void injectMembers(Object instance) {
+		@SuppressWarnings("unchecked")
+		Class<Object> type = (Class<Object>) instance.getClass();
+		getMembersInjector(type).injectMembers(instance);
+	}
+
+	@Override
+	public <T> MembersInjector<T> getMembersInjector(TypeLiteral<T> typeLiteral) {
+		return owner(InjectorPartitions.memberDependencies(typeLiteral), new HashSet<>())
+				.getMembersInjector(typeLiteral);
+	}
+
+	@Override
+	public <T> MembersInjector<T> getMembersInjector(Class<T> type) {
+		return getMembersInjector(TypeLiteral.get(type));
+	}
+
+	@Override
+	public Map<Key<?>, Binding<?>> getBindings() {
+		Map<Key<?>, Binding<?>> bindings = new LinkedHashMap<>(this.parent.getBindings());
+		for (Injector child : this.children) {
+			child.getBindings().forEach(bindings::putIfAbsent);
+		}
+		return Collections.unmodifiableMap(bindings);
+	}
+
+	@Override
+	public Map<Key<?>, Binding<?>> getAllBindings() {
+		Map<Key<?>, Binding<?>> bindings = new LinkedHashMap<>(this.parent.getAllBindings());
+		for (Injector child : this.children) {
+			child.getAllBindings().forEach(bindings::putIfAbsent);
+		}
+		return Collections.unmodifiableMap(bindings);
+	}
+
+	@Override
+	public <T> Binding<T> getBinding(Key<T> key) {
+		return route(key).getBinding(key);
+	}
+
+	@Override
+	public <T> Binding<T> getBinding(Class<T> type) {
+		return getBinding(Key.get(type));
+	}
+
+	@Override
+	public <T> Binding<T> getExistingBinding(Key<T> key) {
+		Injector injector = this.routes.get(key);
+		if (injector != null) {
+			return injector.getExistingBinding(key);
+		}
+		Binding<T> binding = this.parent.getExistingBinding(key);
+		for (int i = 0; binding == null && i < this.children.size(); i++) {
+			binding = this.children.get(i).getExistingBinding(key);
+		}
+		return binding;
+	}
+
+	@Override
+	public <T> List<Binding<T>> findBindingsByType(TypeLiteral<T> type) {
+		List<Binding<T>> bindings = new ArrayList<>(this.parent.findBindingsByType(type));
+		for (Injector child : this.children) {
+			bindings.addAll(child.findBindingsByType(type));
+		}
+		return Collections.unmodifiableList(bindings);
+	}
+
+	@Override
+	public <T> Provider<T> getProvider(Key<T> key) {
+		return route(key).getProvider(key);
+	}
+
+	@Override
+	public <T> Provider<T> getProvider(Class<T> type) {
+		return getProvider(Key.get(type));
+	}
+
+	@Override
+	public <T> T getInstance(Key<T> key) {
+		return route(key).getInstance(key);
+	}
+
+	@Override
+	public <T> T getInstance(Class<T> type) {
+		return getInstance(Key.get(type));
+	}
+
+	@Override
+	public Injector getParent() {
+		return this.parent.getParent();
+	}
+
+	@Override
+	public Injector createChildInjector(Iterable<? extends Module> modules) {
+		List<Module> list = new ArrayList<>();
+		modules.forEach(list::add);
+		list.add(this::bindChildKeys);
+		return this.parent.createChildInjector(list);
+	}
+
+	@Override
+	public Injector createChildInjector(Module... modules) {
+		return createChildInjector(Arrays.asList(modules));
+	}
+
+	private void bindChildKeys(Binder binder) {
+		for (int i = 0; i < this.children.size(); i++) {
+			for (Key<?> key : this.childKeys.get(i)) {
+				bindChildKey(binder, key, this.children.get(i));
+			}
+		}
+	}
+
+	private <T> void bindChildKey(Binder binder, Key<T> key, Injector child) {
+		// Unscoped, so that the child that owns the key keeps its scope
+		binder.withSource(CompositeInjector.class.getName()).bind(key).toProvider(child.getProvider(key));
+	}
+
+	@Override
+	public Map<Class<? extends Annotation>, Scope> getScopeBindings() {
+		return this.parent.getScopeBindings();
+	}
+
+	@Override
+	public Set<TypeConverterBinding> getTypeConverterBindings() {
+		return this.parent.getTypeConverterBindings();
+	}
+
+	@Override
+	public List<Element> getElements() {
+		List<Element> elements = new ArrayList<>(this.parent.getElements());
+		for (Injector child : this.children) {
+			elements.addAll(child.getElements());
+		}
+		return Collections.unmodifiableList(elements);
+	}
+
+	@Override
+	public Map<TypeLiteral<?>, List<InjectionPoint>> getAllMembersInjectorInjectionPoints() {
+		Map<TypeLiteral<?>, List<InjectionPoint>> injectionPoints = new LinkedHashMap<>(
+				this.parent.getAllMembersInjectorInjectionPoints());
+		for (Injector child : this.children) {
+			injectionPoints.putAll(child.getAllMembersInjectorInjectionPoints());
+		}
+		return Collections.unmodifiableMap(injectionPoints);
+	}
+
+}
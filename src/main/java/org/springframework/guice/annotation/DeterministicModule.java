@@ -0,0 +1,46 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a Guice module whose recorded elements depend only on its class (or, if the class
+ * overrides {@link Object#equals(Object) equals}, on its value), so that they can be
+ * recorded once and reused by every application context that uses an equivalent module.
+ * Only honoured when {@code spring.guice.elementCache=true}.
+ * <p>
+ * Only plain bindings (linked, untargetted, constructor and constant bindings, scopes and
+ * listeners) are shared. Guice initializes provider methods, provider instances, provider
+ * lookups, private modules and injected instances against the injector that uses them, so
+ * a marked module that records any of those is recorded again for every context, just
+ * like an unmarked one. Marked modules are recorded on their own the first time, so a
+ * module that they install is not de-duplicated against the same module installed
+ * elsewhere.
+ *
+ * @author Dave Syer
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DeterministicModule {
+
+}
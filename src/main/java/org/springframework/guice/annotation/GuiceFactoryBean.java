@@ -20,7 +20,14 @@ import com.google.inject.Injector;
 import com.google.inject.Key;
 import jakarta.inject.Provider;
 
+import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.guice.jfr.ProvisionEvent;
+import org.springframework.guice.metrics.GuiceBridgeStatistics;
+import org.springframework.guice.metrics.ProvisionMetrics;
+import org.springframework.guice.metrics.ProvisionStatistics;
+import org.springframework.guice.metrics.ProvisionTrace;
+import org.springframework.guice.metrics.ProvisionTracer;
 
 /**
  * Convenience class used to map a Guice {@link Provider} to a Spring bean.
@@ -28,7 +35,7 @@ import org.springframework.beans.factory.FactoryBean;
  * @param <T> the bean type
  * @author Dave Syer
  */
-class GuiceFactoryBean<T> implements FactoryBean<T> {
+class GuiceFactoryBean<T> implements FactoryBean<T>, BeanNameAware {
 
 	private final Key<T> key;
 
@@ -38,16 +45,77 @@ class GuiceFactoryBean<T> implements FactoryBean<T> {
 
 	private final Provider<Injector> injector;
 
-	GuiceFactoryBean(Class<T> beanType, Key<T> key, boolean isSingleton, Provider<Injector> injector) {
+	private volatile com.google.inject.Provider<T> provider;
+
+	private String beanName;
+
+	private final ProvisionStatistics statistics;
+
+	private final ProvisionTracer tracer;
+
+	private final GuiceBridgeStatistics bridgeStatistics;
+
+	GuiceFactoryBean(Class<T> beanType, Key<T> key, boolean isSingleton, Provider<Injector> injector,
+			ProvisionMetrics metrics, ProvisionTracer tracer, GuiceBridgeStatistics bridgeStatistics) {
 		this.beanType = beanType;
 		this.key = key;
 		this.isSingleton = isSingleton;
 		this.injector = injector;
+		this.statistics = (metrics != null) ? metrics.getStatistics(ProvisionMetrics.GUICE_BEAN, key.toString()) : null;
+		this.tracer = tracer;
+		this.bridgeStatistics = bridgeStatistics;
+	}
+
+	@Override
+	public void setBeanName(String name) {
+		this.beanName = name;
 	}
 
 	@Override
 	public T getObject() throws Exception {
-		return (T) this.injector.get().getInstance(this.key);
+		ProvisionEvent event = new ProvisionEvent();
+		event.begin();
+		boolean firstResolution = this.provider == null;
+		if (this.bridgeStatistics != null) {
+			this.bridgeStatistics.provisioned();
+		}
+		long start = (this.statistics != null) ? System.nanoTime() : 0;
+		ProvisionTrace trace = (this.tracer != null) ? this.tracer.start(ProvisionTracer.GUICE_BEAN, this.beanName)
+				: null;
+		try {
+			return getProvider().get();
+		}
+		finally {
+			if (this.tracer != null) {
+				this.tracer.end(trace);
+			}
+			if (this.statistics != null) {
+				this.statistics.record(System.nanoTime() - start);
+			}
+			event.end();
+			if (event.shouldCommit()) {
+				event.setOrigin(getClass().getSimpleName());
+				event.setKey(this.key.toString());
+				event.setBeanName(this.beanName);
+				event.setScope(this.isSingleton ? "singleton" : "prototype");
+				event.setFirstResolution(firstResolution);
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * The Guice provider for the key, resolved once from the injector and cached so that
+	 * repeated (e.g. prototype) lookups skip the binding lookup.
+	 * @return the provider for the key
+	 */
+	com.google.inject.Provider<T> getProvider() {
+		com.google.inject.Provider<T> provider = this.provider;
+		if (provider == null) {
+			provider = this.injector.get().getProvider(this.key);
+			this.provider = provider;
+		}
+		return provider;
 	}
 
 	@Override
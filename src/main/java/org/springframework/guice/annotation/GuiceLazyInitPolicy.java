@@ -0,0 +1,171 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.google.inject.Binding;
+import com.google.inject.Module;
+import com.google.inject.spi.ElementSource;
+
+/**
+ * Lazy-initialization rules for the bean definitions that {@link EnableGuiceModules}
+ * registers for Guice bindings. By default they are all lazy in
+ * {@code spring.guice.stage=DEVELOPMENT} and all eager otherwise. Declare one of these as
+ * a <code>@Bean</code> to make some of them lazy (or eager) regardless:
+ *
+ * <pre class="code">
+ * &#064;Bean
+ * public static GuiceLazyInitPolicy lazyInitPolicy() {
+ * 	return new GuiceLazyInitPolicy().lazy(GuiceLazyInitPolicy.packages("com.example.admin"))
+ * 		.eager(GuiceLazyInitPolicy.modules(RequestModule.class));
+ * }
+ * </pre>
+ *
+ * The first matching rule wins. If there are several policies they are applied in order,
+ * so a later one overrides an earlier one.
+ *
+ * @author Dave Syer
+ *
+ */
+public class GuiceLazyInitPolicy {
+
+	private final List<Rule> rules = new ArrayList<>();
+
+	/**
+	 * Make the matching bindings lazy-init.
+	 * @param bindings the bindings to match
+	 * @return this policy
+	 */
+	public GuiceLazyInitPolicy lazy(Predicate<Binding<?>> bindings) {
+		this.rules.add(new Rule(bindings, true));
+		return this;
+	}
+
+	/**
+	 * Make the matching bindings eagerly initialized.
+	 * @param bindings the bindings to match
+	 * @return this policy
+	 */
+	public GuiceLazyInitPolicy eager(Predicate<Binding<?>> bindings) {
+		this.rules.add(new Rule(bindings, false));
+		return this;
+	}
+
+	/**
+	 * Decide if the bean definition for a binding should be lazy-init.
+	 * @param binding the Guice binding
+	 * @param defaultLazyInit the value to use if no rule matches
+	 * @return true if the bean definition should be lazy-init
+	 */
+	public boolean isLazyInit(Binding<?> binding, boolean defaultLazyInit) {
+		Boolean lazyInit = lazyInit(binding);
+		return (lazyInit != null) ? lazyInit : defaultLazyInit;
+	}
+
+	Boolean lazyInit(Binding<?> binding) {
+		for (Rule rule : this.rules) {
+			if (rule.bindings.test(binding)) {
+				return rule.lazyInit;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Match bindings for keys of one of the given types (or their subtypes).
+	 * @param types the types
+	 * @return a binding matcher
+	 */
+	public static Predicate<Binding<?>> types(Class<?>... types) {
+		List<Class<?>> list = List.of(types);
+		return (binding) -> list.stream()
+				.anyMatch((type) -> type.isAssignableFrom(binding.getKey().getTypeLiteral().getRawType()));
+	}
+
+	/**
+	 * Match bindings for keys whose type is in one of the given packages (or their
+	 * sub-packages).
+	 * @param packages the package names
+	 * @return a binding matcher
+	 */
+	public static Predicate<Binding<?>> packages(String... packages) {
+		List<String> prefixes = Arrays.stream(packages).map((pkg) -> pkg + ".").collect(Collectors.toList());
+		return (binding) -> {
+			String name = binding.getKey().getTypeLiteral().getRawType().getName();
+			return prefixes.stream().anyMatch(name::startsWith);
+		};
+	}
+
+	/**
+	 * Match bindings for keys with one of the given binding annotations.
+	 * @param annotationTypes the binding annotation types
+	 * @return a binding matcher
+	 */
+	@SafeVarargs
+	public static Predicate<Binding<?>> annotations(Class<? extends Annotation>... annotationTypes) {
+		// Copied element by element, so that the array is not captured or passed on
+		Set<Class<? extends Annotation>> set = new HashSet<>();
+		for (Class<? extends Annotation> annotationType : annotationTypes) {
+			set.add(annotationType);
+		}
+		return (binding) -> set.contains(binding.getKey().getAnnotationType());
+	}
+
+	/**
+	 * Match bindings declared (directly or through installed modules) by one of the given
+	 * modules.
+	 * @param modules the module types
+	 * @return a binding matcher
+	 */
+	@SafeVarargs
+	public static Predicate<Binding<?>> modules(Class<? extends Module>... modules) {
+		// Copied element by element, so that the array is not captured or passed on
+		Set<String> set = new HashSet<>();
+		for (Class<? extends Module> module : modules) {
+			set.add(module.getName());
+		}
+		return (binding) -> {
+			if (!(binding.getSource() instanceof ElementSource)) {
+				return false;
+			}
+			List<String> names = ((ElementSource) binding.getSource()).getModuleClassNames();
+			return names.stream().anyMatch(set::contains);
+		};
+	}
+
+	private static final class Rule {
+
+		private final Predicate<Binding<?>> bindings;
+
+		private final boolean lazyInit;
+
+		Rule(Predicate<Binding<?>> bindings, boolean lazyInit) {
+			this.bindings = bindings;
+			this.lazyInit = lazyInit;
+		}
+
+	}
+
+}
@@ -0,0 +1,507 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.ImplementedBy;
+import com.google.inject.Key;
+import com.google.inject.ProvidedBy;
+import com.google.inject.Provider;
+import com.google.inject.TypeLiteral;
+import com.google.inject.multibindings.MapBinderBinding;
+import com.google.inject.multibindings.MultibinderBinding;
+import com.google.inject.multibindings.MultibindingsTargetVisitor;
+import com.google.inject.multibindings.OptionalBinderBinding;
+import com.google.inject.spi.DefaultBindingTargetVisitor;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.ElementSource;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.ProviderLookup;
+import com.google.inject.spi.StaticInjectionRequest;
+import com.google.inject.spi.UntargettedBinding;
+
+import org.springframework.guice.module.SpringModule;
+
+/**
+ * Splits recorded Guice elements into a shared parent and independent components that can
+ * be created as child injectors of the parent. Spring bindings, and all the elements that
+ * apply to the whole injector (scopes, listeners, interceptors, options etc.), go to the
+ * parent together with everything they depend on, and so do bindings used by more than
+ * one other module. The remaining bindings and private modules are grouped by the keys
+ * they depend on, following just-in-time bindings and multibinder contributions, so that
+ * no component needs a key bound in another one.
+ *
+ * @author Dave Syer
+ */
+final class InjectorPartitions {
+
+	private final List<Element> parent;
+
+	private final List<List<Element>> components;
+
+	private final List<Set<Key<?>>> componentKeys;
+
+	private InjectorPartitions(List<Element> parent, List<List<Element>> components, List<Set<Key<?>>> componentKeys) {
+		this.parent = parent;
+		this.components = components;
+		this.componentKeys = componentKeys;
+	}
+
+	/**
+	 * The elements of the shared parent injector.
+	 * @return the parent elements
+	 */
+	List<Element> getParent() {
+		return this.parent;
+	}
+
+	/**
+	 * The elements of each independent child injector.
+	 * @return the components
+	 */
+	List<List<Element>> getComponents() {
+		return this.components;
+	}
+
+	/**
+	 * The keys bound (or exposed) by each component, in the same order as
+	 * {@link #getComponents()}.
+	 * @return the keys of each component
+	 */
+	List<Set<Key<?>>> getComponentKeys() {
+		return this.componentKeys;
+	}
+
+	/**
+	 * Partition the elements.
+	 * @param elements the recorded elements
+	 * @return the partitions, or null if there are less than two independent components
+	 */
+	static InjectorPartitions of(List<Element> elements) {
+		return new Analyzer(elements).partition();
+	}
+
+	/**
+	 * The keys that a just-in-time binding for the type would depend on.
+	 * @param type the type
+	 * @return the keys (empty if there cannot be a just-in-time binding)
+	 */
+	static Set<Key<?>> justInTimeDependencies(TypeLiteral<?> type) {
+		Set<Key<?>> dependencies = new LinkedHashSet<>();
+		Class<?> rawType = type.getRawType();
+		ImplementedBy implementedBy = rawType.getAnnotation(ImplementedBy.class);
+		ProvidedBy providedBy = rawType.getAnnotation(ProvidedBy.class);
+		if (implementedBy != null) {
+			dependencies.add(Key.get(implementedBy.value()));
+		}
+		else if (providedBy != null) {
+			dependencies.add(Key.get(providedBy.value()));
+		}
+		else if (!rawType.isInterface() && !rawType.isPrimitive() && !rawType.isArray()
+				&& !Modifier.isAbstract(rawType.getModifiers())) {
+			try {
+				addDependencies(dependencies, InjectionPoint.forConstructorOf(type));
+				addDependencies(dependencies, InjectionPoint.forInstanceMethodsAndFields(type));
+			}
+			catch (ConfigurationException ex) {
+				// Not a valid just-in-time binding, Guice will report it
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * The keys that members injection of the type depends on.
+	 * @param type the type
+	 * @return the keys
+	 */
+	static Set<Key<?>> memberDependencies(TypeLiteral<?> type) {
+		Set<Key<?>> dependencies = new LinkedHashSet<>();
+		try {
+			addDependencies(dependencies, InjectionPoint.forInstanceMethodsAndFields(type));
+		}
+		catch (ConfigurationException ex) {
+			// Guice will report it
+		}
+		return dependencies;
+	}
+
+	/**
+	 * The key provided by a key for a provider.
+	 * @param key the key
+	 * @return the provided key, or null if it is not a key for a provider
+	 */
+	static Key<?> providedKey(Key<?> key) {
+		Class<?> rawType = key.getTypeLiteral().getRawType();
+		if ((rawType == Provider.class || rawType == jakarta.inject.Provider.class)
+				&& key.getTypeLiteral().getType() instanceof ParameterizedType) {
+			return key.ofType(((ParameterizedType) key.getTypeLiteral().getType()).getActualTypeArguments()[0]);
+		}
+		return null;
+	}
+
+	private static void addDependencies(Set<Key<?>> keys, InjectionPoint injectionPoint) {
+		for (Dependency<?> dependency : injectionPoint.getDependencies()) {
+			keys.add(dependency.getKey());
+		}
+	}
+
+	private static void addDependencies(Set<Key<?>> keys, Collection<InjectionPoint> injectionPoints) {
+		for (InjectionPoint injectionPoint : injectionPoints) {
+			addDependencies(keys, injectionPoint);
+		}
+	}
+
+	private static final class Analyzer {
+
+		private final List<Element> elements;
+
+		private final Map<Key<?>, Integer> owners = new HashMap<>();
+
+		private final Map<TypeLiteral<?>, Set<Key<?>>> justInTimeDependencies = new HashMap<>();
+
+		private final List<Set<Integer>> edges = new ArrayList<>();
+
+		private final Map<Integer, Set<String>> dependentModules = new HashMap<>();
+
+		private final int[] roots;
+
+		Analyzer(List<Element> elements) {
+			this.elements = elements;
+			this.roots = new int[elements.size()];
+			for (int i = 0; i < this.roots.length; i++) {
+				this.roots[i] = i;
+				this.edges.add(new HashSet<>());
+			}
+		}
+
+		InjectorPartitions partition() {
+			for (int i = 0; i < this.elements.size(); i++) {
+				for (Key<?> key : boundKeys(this.elements.get(i))) {
+					Integer previous = this.owners.put(key, i);
+					if (previous != null) {
+						link(previous, i);
+					}
+				}
+			}
+			linkMultibindings();
+			for (int i = 0; i < this.elements.size(); i++) {
+				Set<Key<?>> visited = new HashSet<>();
+				for (Key<?> key : dependencies(this.elements.get(i))) {
+					resolve(i, key, visited);
+				}
+			}
+			boolean[] shared = sharedElements();
+			for (int i = 0; i < this.elements.size(); i++) {
+				if (!shared[i]) {
+					for (int target : this.edges.get(i)) {
+						if (!shared[target]) {
+							union(i, target);
+						}
+					}
+				}
+			}
+			Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+			for (int i = 0; i < this.elements.size(); i++) {
+				if (!shared[i]) {
+					groups.computeIfAbsent(find(i), (root) -> new ArrayList<>()).add(i);
+				}
+			}
+			List<List<Integer>> components = new ArrayList<>();
+			for (List<Integer> group : groups.values()) {
+				if (group.stream().anyMatch((i) -> !boundKeys(this.elements.get(i)).isEmpty())) {
+					components.add(group);
+				}
+				else {
+					// Lookups and injection requests on their own can be served by the
+					// parent
+					group.forEach((i) -> shared[i] = true);
+				}
+			}
+			if (components.size() < 2) {
+				return null;
+			}
+			List<Element> parent = new ArrayList<>();
+			for (int i = 0; i < this.elements.size(); i++) {
+				if (shared[i]) {
+					parent.add(this.elements.get(i));
+				}
+			}
+			List<List<Element>> result = new ArrayList<>();
+			List<Set<Key<?>>> keys = new ArrayList<>();
+			for (List<Integer> component : components) {
+				List<Element> componentElements = new ArrayList<>();
+				Set<Key<?>> componentKeys = new HashSet<>();
+				for (int i : component) {
+					componentElements.add(this.elements.get(i));
+					componentKeys.addAll(boundKeys(this.elements.get(i)));
+				}
+				result.add(componentElements);
+				keys.add(componentKeys);
+			}
+			return new InjectorPartitions(parent, result, keys);
+		}
+
+		// The elements that have to be in the parent: Spring bindings, injector-wide
+		// elements and (transitively) everything they depend on
+		private boolean[] sharedElements() {
+			boolean[] shared = new boolean[this.elements.size()];
+			List<Integer> queue = new ArrayList<>();
+			for (int i = 0; i < this.elements.size(); i++) {
+				if (isShared(this.elements.get(i)) || isCommon(i)) {
+					shared[i] = true;
+					queue.add(i);
+				}
+			}
+			while (!queue.isEmpty()) {
+				int current = queue.remove(queue.size() - 1);
+				for (int target : this.edges.get(current)) {
+					if (!shared[target]) {
+						shared[target] = true;
+						queue.add(target);
+					}
+				}
+			}
+			return shared;
+		}
+
+		private boolean isShared(Element element) {
+			if (element instanceof Binding) {
+				return ((Binding<?>) element).getSource().toString().contains(SpringModule.SPRING_GUICE_SOURCE);
+			}
+			return !(element instanceof PrivateElements || element instanceof ProviderLookup
+					|| element instanceof MembersInjectorLookup || element instanceof InjectionRequest);
+		}
+
+		// Used by more than one module other than its own (the dependencies have all
+		// been resolved by now)
+		private boolean isCommon(int index) {
+			Set<String> modules = this.dependentModules.get(index);
+			return modules != null && modules.size() > 1;
+		}
+
+		private static String moduleOf(Element element) {
+			Object source = element.getSource();
+			if (source instanceof ElementSource) {
+				List<String> modules = ((ElementSource) source).getModuleClassNames();
+				if (!modules.isEmpty()) {
+					return modules.get(modules.size() - 1);
+				}
+			}
+			return String.valueOf(source);
+		}
+
+		private void linkMultibindings() {
+			List<Integer> multibindings = new ArrayList<>();
+			List<Predicate<Element>> predicates = new ArrayList<>();
+			for (int i = 0; i < this.elements.size(); i++) {
+				Element element = this.elements.get(i);
+				if (element instanceof Binding) {
+					Predicate<Element> predicate = ((Binding<?>) element)
+							.acceptTargetVisitor(MultibindingVisitor.INSTANCE);
+					if (predicate != null) {
+						multibindings.add(i);
+						predicates.add(predicate);
+					}
+				}
+			}
+			for (int m = 0; m < multibindings.size(); m++) {
+				for (int i = 0; i < this.elements.size(); i++) {
+					if (contains(predicates.get(m), this.elements.get(i))) {
+						link(multibindings.get(m), i);
+					}
+				}
+			}
+		}
+
+		private boolean contains(Predicate<Element> multibinding, Element element) {
+			if (element instanceof PrivateElements) {
+				for (Element child : ((PrivateElements) element).getElements()) {
+					if (contains(multibinding, child)) {
+						return true;
+					}
+				}
+				return false;
+			}
+			return multibinding.test(element);
+		}
+
+		private void link(int source, int target) {
+			if (source != target) {
+				this.edges.get(source).add(target);
+				this.edges.get(target).add(source);
+			}
+		}
+
+		// Find the elements that provide the key, looking through just-in-time bindings,
+		// and add an edge to them
+		private void resolve(int source, Key<?> key, Set<Key<?>> visited) {
+			if (!visited.add(key)) {
+				return;
+			}
+			Integer owner = this.owners.get(key);
+			if (owner != null) {
+				if (owner != source) {
+					this.edges.get(source).add(owner);
+					String module = moduleOf(this.elements.get(source));
+					if (!module.equals(moduleOf(this.elements.get(owner)))) {
+						this.dependentModules.computeIfAbsent(owner, (i) -> new HashSet<>()).add(module);
+					}
+				}
+				return;
+			}
+			Key<?> provided = providedKey(key);
+			if (provided != null) {
+				resolve(source, provided, visited);
+				return;
+			}
+			if (key.getAnnotationType() != null) {
+				return;
+			}
+			for (Key<?> dependency : justInTimeDependencies(key.getTypeLiteral())) {
+				resolve(source, dependency, visited);
+			}
+		}
+
+		private Set<Key<?>> justInTimeDependencies(TypeLiteral<?> type) {
+			return this.justInTimeDependencies.computeIfAbsent(type, InjectorPartitions::justInTimeDependencies);
+		}
+
+		private Set<Key<?>> dependencies(Element element) {
+			Set<Key<?>> keys = new LinkedHashSet<>();
+			try {
+				if (element instanceof PrivateElements) {
+					Set<Key<?>> bound = new HashSet<>();
+					for (Element child : ((PrivateElements) element).getElements()) {
+						bound.addAll(boundKeys(child));
+						if (child instanceof Binding) {
+							bound.add(((Binding<?>) child).getKey());
+						}
+						keys.addAll(dependencies(child));
+					}
+					keys.removeAll(bound);
+				}
+				else if (element instanceof UntargettedBinding) {
+					keys.addAll(justInTimeDependencies(((Binding<?>) element).getKey().getTypeLiteral()));
+				}
+				else if (element instanceof LinkedKeyBinding) {
+					keys.add(((LinkedKeyBinding<?>) element).getLinkedKey());
+				}
+				else if (element instanceof ProviderKeyBinding) {
+					keys.add(((ProviderKeyBinding<?>) element).getProviderKey());
+				}
+				else if (element instanceof HasDependencies) {
+					for (Dependency<?> dependency : ((HasDependencies) element).getDependencies()) {
+						keys.add(dependency.getKey());
+					}
+				}
+				else if (element instanceof ProviderLookup) {
+					keys.add(((ProviderLookup<?>) element).getKey());
+				}
+				else if (element instanceof MembersInjectorLookup) {
+					addDependencies(keys,
+							InjectionPoint.forInstanceMethodsAndFields(((MembersInjectorLookup<?>) element).getType()));
+				}
+				else if (element instanceof InjectionRequest) {
+					addDependencies(keys, ((InjectionRequest<?>) element).getInjectionPoints());
+				}
+				else if (element instanceof StaticInjectionRequest) {
+					addDependencies(keys, ((StaticInjectionRequest) element).getInjectionPoints());
+				}
+			}
+			catch (ConfigurationException ex) {
+				// Guice will report it when the injector is created
+			}
+			return keys;
+		}
+
+		private static Set<Key<?>> boundKeys(Element element) {
+			if (element instanceof Binding) {
+				return Set.of(((Binding<?>) element).getKey());
+			}
+			if (element instanceof PrivateElements) {
+				return ((PrivateElements) element).getExposedKeys();
+			}
+			return Set.of();
+		}
+
+		private int find(int i) {
+			while (this.roots[i] != i) {
+				this.roots[i] = this.roots[this.roots[i]];
+				i = this.roots[i];
+			}
+			return i;
+		}
+
+		private void union(int a, int b) {
+			int rootA = find(a);
+			int rootB = find(b);
+			if (rootA != rootB) {
+				this.roots[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+			}
+		}
+
+	}
+
+	/**
+	 * Recognizes multibinder, map binder and optional binder bindings, whose
+	 * contributions have to end up in the same injector.
+	 */
+	private static final class MultibindingVisitor extends DefaultBindingTargetVisitor<Object, Predicate<Element>>
+			implements MultibindingsTargetVisitor<Object, Predicate<Element>> {
+
+		private static final MultibindingVisitor INSTANCE = new MultibindingVisitor();
+
+		@Override
+		public Predicate<Element> visit(MultibinderBinding<?> multibinding) {
+			return multibinding::containsElement;
+		}
+
+		@Override
+		public Predicate<Element> visit(MapBinderBinding<?> mapbinding) {
+			return mapbinding::containsElement;
+		}
+
+		@Override
+		public Predicate<Element> visit(OptionalBinderBinding<?> optionalbinding) {
+			return optionalbinding::containsElement;
+		}
+
+	}
+
+}
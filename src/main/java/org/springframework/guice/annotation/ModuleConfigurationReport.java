@@ -0,0 +1,249 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.Module;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.ElementSource;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderInstanceBinding;
+import com.google.inject.spi.ProvidesMethodBinding;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Diagnostic report of the cost of each top-level Guice module: the time spent recording
+ * its elements and the bindings, <code>@Provides</code> methods and private elements it
+ * contributes, plus the time Guice spends creating the injector from all of them. Enabled
+ * with {@code spring.guice.moduleReport=true}.
+ *
+ * @author Dave Syer
+ */
+final class ModuleConfigurationReport {
+
+	private static final Log logger = LogFactory.getLog(ModuleConfigurationReport.class);
+
+	private final Map<Module, String> names;
+
+	private final String file;
+
+	private final List<Entry> entries = new ArrayList<>();
+
+	private long recordingNanos;
+
+	private volatile long injectorNanos = -1;
+
+	ModuleConfigurationReport(Map<Module, String> names, String file) {
+		this.names = new IdentityHashMap<>(names);
+		this.file = file;
+	}
+
+	/**
+	 * Record the elements of the modules in one pass (so that modules installed more than
+	 * once are still only configured once), timing each top-level module on the way.
+	 * @param stage the stage to record in
+	 * @param modules the top-level modules
+	 * @return the recorded elements
+	 */
+	List<Element> record(Stage stage, List<Module> modules) {
+		// Markers between the modules note the time and leave an element behind, so the
+		// elements in between belong to the module that was configured in between
+		List<Module> marked = new ArrayList<>();
+		List<Marker> markers = new ArrayList<>();
+		markers.add(new Marker());
+		marked.add(markers.get(0));
+		for (Module module : modules) {
+			marked.add(module);
+			Marker marker = new Marker();
+			markers.add(marker);
+			marked.add(marker);
+		}
+		List<Element> recorded = Elements.getElements(stage, marked);
+		List<Element> elements = new ArrayList<>(recorded.size());
+		Entry entry = null;
+		int index = 0;
+		for (Element element : recorded) {
+			if (isMarker(element, markers, index)) {
+				if (index > 0) {
+					entry.nanos = markers.get(index).nanos - markers.get(index - 1).nanos;
+					this.entries.add(entry);
+				}
+				if (index < modules.size()) {
+					Module module = modules.get(index);
+					entry = new Entry(this.names.getOrDefault(module, module.getClass().getName()));
+				}
+				index++;
+				continue;
+			}
+			entry.add(element);
+			elements.add(element);
+		}
+		this.recordingNanos = markers.get(markers.size() - 1).nanos - markers.get(0).nanos;
+		return elements;
+	}
+
+	void injectorCreated(long nanos) {
+		this.injectorNanos = nanos;
+	}
+
+	/**
+	 * Write the report to the log, or to the configured file if there is one.
+	 */
+	void write() {
+		String report = toString();
+		if (this.file == null) {
+			logger.info(report);
+			return;
+		}
+		try {
+			Files.writeString(Path.of(this.file), report);
+			logger.info("Guice module configuration report written to " + this.file);
+		}
+		catch (IOException ex) {
+			logger.warn("Could not write Guice module configuration report to " + this.file, ex);
+			logger.info(report);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format("Guice module configuration report: %d modules, %.3f ms recording",
+				this.entries.size(), millis(this.recordingNanos)));
+		if (this.injectorNanos >= 0) {
+			builder.append(String.format(", %.3f ms creating the injector", millis(this.injectorNanos)));
+		}
+		builder.append(System.lineSeparator());
+		builder.append(String.format("%12s %9s %9s %9s %9s  %s%n", "ms", "elements", "bindings", "@Provides", "private",
+				"module"));
+		this.entries.stream().sorted(Comparator.comparingLong((Entry entry) -> entry.nanos).reversed())
+				.forEach((entry) -> builder.append(String.format("%12.3f %9d %9d %9d %9d  %s%n", millis(entry.nanos),
+						entry.elements, entry.bindings, entry.providesMethods, entry.privateElements, entry.name)));
+		return builder.toString();
+	}
+
+	List<Entry> getEntries() {
+		return this.entries;
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private static boolean isMarker(Element element, List<Marker> markers, int index) {
+		if (index >= markers.size()) {
+			return false;
+		}
+		Object source = element.getSource();
+		if (source instanceof ElementSource) {
+			source = ((ElementSource) source).getDeclaringSource();
+		}
+		return source == markers.get(index);
+	}
+
+	/**
+	 * The cost of one top-level module.
+	 */
+	static final class Entry {
+
+		private final String name;
+
+		private long nanos;
+
+		private int elements;
+
+		private int bindings;
+
+		private int providesMethods;
+
+		private int privateElements;
+
+		Entry(String name) {
+			this.name = name;
+		}
+
+		private void add(Element element) {
+			this.elements++;
+			if (element instanceof PrivateElements) {
+				for (Element child : ((PrivateElements) element).getElements()) {
+					this.privateElements++;
+					addBinding(child);
+				}
+			}
+			else {
+				addBinding(element);
+			}
+		}
+
+		private void addBinding(Element element) {
+			if (element instanceof Binding) {
+				this.bindings++;
+				if (element instanceof ProviderInstanceBinding && ((ProviderInstanceBinding<?>) element)
+						.getUserSuppliedProvider() instanceof ProvidesMethodBinding) {
+					this.providesMethods++;
+				}
+			}
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+		long getNanos() {
+			return this.nanos;
+		}
+
+		int getBindings() {
+			return this.bindings;
+		}
+
+		int getProvidesMethods() {
+			return this.providesMethods;
+		}
+
+		int getPrivateElements() {
+			return this.privateElements;
+		}
+
+	}
+
+	private static final class Marker implements Module {
+
+		private long nanos;
+
+		@Override
+		public void configure(Binder binder) {
+			this.nanos = System.nanoTime();
+			binder.withSource(this).requestInjection(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.inject.Module;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.Message;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderInstanceBinding;
+import com.google.inject.spi.ProviderLookup;
+import com.google.inject.spi.StaticInjectionRequest;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Cache of the elements recorded from {@link DeterministicModule deterministic} modules,
+ * shared by all the application contexts in the class loader (typically the many contexts
+ * of a test suite, or a production context that is rebuilt at runtime). Entries are
+ * softly referenced so they are dropped under memory pressure.
+ * <p>
+ * Only elements that hold no state of the injector they are used in can be shared. Guice
+ * initializes provider lookups, provider methods, provider instances, private elements
+ * and injected instances against the injector that uses them, so a module that records
+ * any of those is recorded again for each context, as if it were not deterministic.
+ *
+ * @author Dave Syer
+ */
+final class ModuleElementCache {
+
+	private static final List<Element> NOT_REPLAYABLE = Collections.unmodifiableList(new ArrayList<>());
+
+	private static final Map<CacheKey, List<Element>> cache = new ConcurrentReferenceHashMap<>();
+
+	private ModuleElementCache() {
+	}
+
+	/**
+	 * Record the elements of the modules, reusing cached elements for the deterministic
+	 * ones. Consecutive modules that are not deterministic are recorded together, and the
+	 * order of the elements is the same as if all modules were recorded in one pass.
+	 * @param stage the stage to record in
+	 * @param modules the top-level modules
+	 * @return the recorded elements
+	 */
+	static List<Element> record(Stage stage, List<Module> modules) {
+		List<Element> elements = new ArrayList<>();
+		List<Module> pending = new ArrayList<>();
+		for (Module module : modules) {
+			CacheKey key = isDeterministic(module) ? new CacheKey(module, stage) : null;
+			List<Element> cached = (key != null) ? cache.get(key) : NOT_REPLAYABLE;
+			if (cached == NOT_REPLAYABLE) {
+				pending.add(module);
+				continue;
+			}
+			if (!pending.isEmpty()) {
+				elements.addAll(Elements.getElements(stage, pending));
+				pending.clear();
+			}
+			if (cached == null) {
+				// Recorded now, so these elements are fresh for this context either way
+				List<Element> recorded = Elements.getElements(stage, module);
+				cache.put(key, isReplayable(recorded) ? Collections.unmodifiableList(recorded) : NOT_REPLAYABLE);
+				cached = recorded;
+			}
+			elements.addAll(cached);
+		}
+		if (!pending.isEmpty()) {
+			elements.addAll(Elements.getElements(stage, pending));
+		}
+		return elements;
+	}
+
+	static int size() {
+		return cache.size();
+	}
+
+	static void clear() {
+		cache.clear();
+	}
+
+	private static boolean isReplayable(List<Element> elements) {
+		for (Element element : elements) {
+			if (element instanceof ProviderLookup || element instanceof MembersInjectorLookup
+					|| element instanceof ProviderInstanceBinding || element instanceof PrivateElements
+					|| element instanceof InjectionRequest || element instanceof StaticInjectionRequest
+					|| element instanceof Message) {
+				return false;
+			}
+			if (element instanceof InstanceBinding && !((InstanceBinding<?>) element).getInjectionPoints().isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDeterministic(Module module) {
+		return AnnotatedElementUtils.hasAnnotation(module.getClass(), DeterministicModule.class);
+	}
+
+	private static final class CacheKey {
+
+		private final Class<?> type;
+
+		private final Object value;
+
+		private final Stage stage;
+
+		CacheKey(Module module, Stage stage) {
+			this.type = module.getClass();
+			// Modules with value semantics are cached per value, the rest per class
+			Class<?> declaring = ReflectionUtils.findMethod(this.type, "equals", Object.class).getDeclaringClass();
+			this.value = (declaring != Object.class) ? module : null;
+			this.stage = stage;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return this.type == other.type && this.stage == other.stage && Objects.equals(this.value, other.value);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.type, this.value, this.stage);
+		}
+
+	}
+
+}
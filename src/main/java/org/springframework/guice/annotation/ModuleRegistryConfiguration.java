@@ -23,12 +23,26 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,19 +56,29 @@ import com.google.inject.Scopes;
 import com.google.inject.Stage;
 import com.google.inject.TypeLiteral;
 import com.google.inject.internal.BindingImpl;
+import com.google.inject.matcher.Matcher;
 import com.google.inject.name.Named;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import com.google.inject.spi.Dependency;
 import com.google.inject.spi.Element;
 import com.google.inject.spi.ElementSource;
 import com.google.inject.spi.Elements;
+import com.google.inject.spi.HasDependencies;
 import com.google.inject.spi.LinkedKeyBinding;
 import com.google.inject.spi.Message;
 import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProvisionListener;
 import com.google.inject.spi.UntargettedBinding;
+import com.google.inject.util.Types;
+import jakarta.inject.Provider;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -73,6 +97,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.guice.jfr.ElementRecordingEvent;
+import org.springframework.guice.jfr.InjectorCreationEvent;
+import org.springframework.guice.metrics.GuiceBridgeStatistics;
+import org.springframework.guice.metrics.ProvisionMetrics;
+import org.springframework.guice.metrics.ProvisionTracer;
 import org.springframework.guice.module.SpringModule;
 
 /**
@@ -94,6 +127,40 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 
 	private static final String SPRING_GUICE_STAGE_PROPERTY_NAME = "spring.guice.stage";
 
+	private static final String SPRING_GUICE_PROMOTE_SINGLETONS_PROPERTY_NAME = "spring.guice.promoteSingletons";
+
+	private static final String SPRING_GUICE_PROVIDER_BEANS_PROPERTY_NAME = "spring.guice.providerBeans";
+
+	private static final String SPRING_GUICE_ASYNC_INJECTOR_PROPERTY_NAME = "spring.guice.asyncInjector";
+
+	private static final String SPRING_GUICE_PARALLEL_INJECTORS_PROPERTY_NAME = "spring.guice.parallelInjectors";
+
+	private static final String SPRING_GUICE_PARALLEL_SINGLETONS_PROPERTY_NAME = "spring.guice.parallelSingletons";
+
+	private static final String SPRING_GUICE_MODULE_REPORT_PROPERTY_NAME = "spring.guice.moduleReport";
+
+	private static final String SPRING_GUICE_MODULE_REPORT_FILE_PROPERTY_NAME = "spring.guice.moduleReportFile";
+
+	private static final String SPRING_GUICE_BINDING_REPORT_PROPERTY_NAME = "spring.guice.bindingReport";
+
+	private static final String SPRING_GUICE_MAX_SUPER_TYPES_PROPERTY_NAME = "spring.guice.maxSuperTypesPerBean";
+
+	private static final String SPRING_GUICE_METADATA_ONLY_TYPES_PROPERTY_NAME = "spring.guice.metadataOnlyTypes";
+
+	private static final String SPRING_GUICE_PARALLEL_BINDING_PLAN_PROPERTY_NAME = "spring.guice.parallelBindingPlan";
+
+	private static final String SPRING_GUICE_BINDING_PLAN_CACHE_PROPERTY_NAME = "spring.guice.bindingPlanCache";
+
+	private static final String SPRING_GUICE_SHARED_BINDING_PLAN_PROPERTY_NAME = "spring.guice.sharedBindingPlan";
+
+	private static final String SPRING_GUICE_ELEMENT_CACHE_PROPERTY_NAME = "spring.guice.elementCache";
+
+	private static final String SPRING_GUICE_CHILD_INJECTOR_PROPERTY_NAME = "spring.guice.childInjector";
+
+	private static final String SPRING_GUICE_NAMED_BINDINGS_PROPERTY_NAME = "spring.guice.namedBindings";
+
+	private static final String SPRING_GUICE_FAIL_ON_BINDING_BUDGET_PROPERTY_NAME = "spring.guice.failOnBindingBudget";
+
 	private static final List<String> SPRING_GUICE_IGNORED_ANNOTATION_PREFIXES = Arrays.asList(
 			"com.google.inject.multibindings", "com.google.inject.internal.Element",
 			"com.google.inject.internal.UniqueAnnotations", "com.google.inject.internal.RealOptionalBinder");
@@ -125,22 +192,89 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 
 	@Override
 	public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
-		List<Module> modules = filterModules(registry,
-				new ArrayList<>(((ConfigurableListableBeanFactory) registry).getBeansOfType(Module.class).values()));
-		SpringModule module = new SpringModule((ConfigurableListableBeanFactory) registry,
-				this.enableJustInTimeBinding);
+		Map<String, Module> moduleBeans = ((ConfigurableListableBeanFactory) registry).getBeansOfType(Module.class);
+		List<Module> modules = filterModules(registry, new ArrayList<>(moduleBeans.values()));
+		Environment environment = this.applicationContext.getEnvironment();
+		SpringModule module = new SpringModule((ConfigurableListableBeanFactory) registry, this.enableJustInTimeBinding)
+				.maxSuperTypesPerBean(
+						environment.getProperty(SPRING_GUICE_MAX_SUPER_TYPES_PROPERTY_NAME, Integer.class, -1))
+				.failOnBindingBudget(environment.getProperty(SPRING_GUICE_FAIL_ON_BINDING_BUDGET_PROPERTY_NAME,
+						Boolean.class, false))
+				.bindingReport(environment.getProperty(SPRING_GUICE_BINDING_REPORT_PROPERTY_NAME, Boolean.class, false))
+				.namedBindings(environment.getProperty(SPRING_GUICE_NAMED_BINDINGS_PROPERTY_NAME,
+						SpringModule.NamedBindings.class, SpringModule.NamedBindings.ALL))
+				.metadataOnlyTypes(
+						environment.getProperty(SPRING_GUICE_METADATA_ONLY_TYPES_PROPERTY_NAME, Boolean.class, false))
+				.parallelPlanning(
+						environment.getProperty(SPRING_GUICE_PARALLEL_BINDING_PLAN_PROPERTY_NAME, Boolean.class, false))
+				.planCache(environment.getProperty(SPRING_GUICE_BINDING_PLAN_CACHE_PROPERTY_NAME)).sharedPlan(
+						environment.getProperty(SPRING_GUICE_SHARED_BINDING_PLAN_PROPERTY_NAME, Boolean.class, false));
 		modules.add(module);
+		ApplicationStartup applicationStartup = ((ConfigurableListableBeanFactory) registry).getApplicationStartup();
+		GuiceBridgeStatistics statistics = GuiceBridgeStatistics.get((ConfigurableListableBeanFactory) registry);
 		Map<Key<?>, Binding<?>> bindings = new HashMap<Key<?>, Binding<?>>();
-		List<Element> elements = Elements.getElements(Stage.TOOL, modules);
+		StartupStep record = applicationStartup.start("spring.guice.modules.record");
+		ModuleConfigurationReport report = null;
+		if (this.applicationContext.getEnvironment().getProperty(SPRING_GUICE_MODULE_REPORT_PROPERTY_NAME,
+				Boolean.class, false)) {
+			Map<Module, String> names = new IdentityHashMap<>();
+			moduleBeans.forEach((name, bean) -> names.put(bean, name));
+			report = new ModuleConfigurationReport(names, this.applicationContext.getEnvironment()
+					.getProperty(SPRING_GUICE_MODULE_REPORT_FILE_PROPERTY_NAME));
+		}
+		ElementRecordingEvent recording = new ElementRecordingEvent();
+		recording.begin();
+		List<Element> elements;
+		boolean cached = (report == null)
+				&& environment.getProperty(SPRING_GUICE_ELEMENT_CACHE_PROPERTY_NAME, Boolean.class, false);
+		if (report != null) {
+			elements = report.record(Stage.TOOL, modules);
+		}
+		else if (cached) {
+			elements = ModuleElementCache.record(Stage.TOOL, modules);
+		}
+		else {
+			elements = Elements.getElements(Stage.TOOL, modules);
+		}
+		recording.end();
+		if (recording.shouldCommit()) {
+			recording.setModules(modules.size());
+			recording.setElements(elements.size());
+			recording.commit();
+		}
+		record.tag("modules", String.valueOf(modules.size())).tag("elements", String.valueOf(elements.size())).end();
 		List<Message> errors = elements.stream().filter((e) -> e instanceof Message).map((e) -> (Message) e)
 				.collect(Collectors.toList());
 		if (!errors.isEmpty()) {
 			throw new ConfigurationException(errors);
 		}
+		boolean async = this.applicationContext.getEnvironment().getProperty(SPRING_GUICE_ASYNC_INJECTOR_PROPERTY_NAME,
+				Boolean.class, false);
+		boolean parallel = this.applicationContext.getEnvironment()
+				.getProperty(SPRING_GUICE_PARALLEL_INJECTORS_PROPERTY_NAME, Boolean.class, false);
+		Injector parentInjector = findParentInjector();
+		if (parentInjector != null) {
+			// Spring beans that the parent injector already binds are not bound again, so
+			// the child only binds the beans and modules of this context
+			elements = elements.stream().filter((e) -> !boundInParent(parentInjector, e)).collect(Collectors.toList());
+			modules = Collections.singletonList(Elements.getModule(elements));
+		}
+		if (async || parallel || cached) {
+			// Replay the recorded elements so that background threads do not have to
+			// configure the modules against the bean factory again (and cached modules
+			// are not configured at all)
+			modules = Collections.singletonList(Elements.getModule(elements));
+		}
 		if (this.applicationContext.getEnvironment().getProperty(SPRING_GUICE_DEDUPE_BINDINGS_PROPERTY_NAME,
 				Boolean.class, false)) {
+			StartupStep dedup = applicationStartup.start("spring.guice.bindings.dedup");
+			int count = elements.size();
 			elements = removeDuplicates(elements);
 			modules = Collections.singletonList(Elements.getModule(elements));
+			if (statistics != null) {
+				statistics.setDuplicateBindingsRemoved(count - elements.size());
+			}
+			dedup.tag("removed", String.valueOf(count - elements.size())).end();
 		}
 		if (this.applicationContext.getEnvironment().containsProperty("spring.guice.modules.exclude")) {
 			String[] modulesToFilter = this.applicationContext.getEnvironment()
@@ -157,17 +291,88 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 				extractPrivateElements(bindings, (PrivateElements) e);
 			}
 		}
-		mapBindings(bindings, registry, module);
+		Provider<Injector> moduleInjector = () -> module.getInjector().get();
+		// While the injector is created in the background the bean factory holds a
+		// placeholder that waits for it, and parallel injectors are only reachable
+		// through the composite registered once they are all created
+		Provider<Injector> injector = (async || parallel)
+				? () -> ((ConfigurableListableBeanFactory) registry).containsSingleton("injector")
+						? ((ConfigurableListableBeanFactory) registry).getBean("injector", Injector.class)
+						: moduleInjector.get()
+				: moduleInjector;
+		List<GuiceLazyInitPolicy> lazyInitPolicies = new ArrayList<>(
+				((ConfigurableListableBeanFactory) registry).getBeansOfType(GuiceLazyInitPolicy.class).values());
+		Set<Key<?>> deferred = new HashSet<>();
+		StartupStep register = applicationStartup.start("spring.guice.bindings.register");
+		int beanDefinitions = registry.getBeanDefinitionCount();
+		ProvisionMetrics metrics = null;
+		if (((ConfigurableListableBeanFactory) registry).getBeanNamesForType(ProvisionMetrics.class).length > 0) {
+			metrics = ((ConfigurableListableBeanFactory) registry).getBean(ProvisionMetrics.class);
+		}
+		ProvisionTracer tracer = null;
+		if (((ConfigurableListableBeanFactory) registry).getBeanNamesForType(ProvisionTracer.class).length > 0) {
+			tracer = ((ConfigurableListableBeanFactory) registry).getBean(ProvisionTracer.class);
+		}
+		Map<String, Key<?>> singletons = mapBindings(bindings, registry, injector, lazyInitPolicies, deferred, metrics,
+				tracer, statistics);
+		if (statistics != null) {
+			statistics.setGuiceBeanDefinitions(registry.getBeanDefinitionCount() - beanDefinitions);
+		}
+		register.tag("bindings", String.valueOf(bindings.size()))
+				.tag("beanDefinitions", String.valueOf(registry.getBeanDefinitionCount() - beanDefinitions)).end();
+		if (async || !this.applicationContext.getEnvironment()
+				.getProperty(SPRING_GUICE_PROMOTE_SINGLETONS_PROPERTY_NAME, Boolean.class, false)) {
+			// A background injector is only ready once Spring has created the factory
+			// beans, so there is nothing left to promote
+			singletons = Collections.emptyMap();
+		}
+
+		boolean parallelSingletons = this.applicationContext.getEnvironment()
+				.getProperty(SPRING_GUICE_PARALLEL_SINGLETONS_PROPERTY_NAME, Boolean.class, false);
 
 		// Register the injector initializer
 		RootBeanDefinition beanDefinition = new RootBeanDefinition(GuiceInjectorInitializer.class);
 		final List<Module> finalModules = new ArrayList<>(modules);
-		beanDefinition.setInstanceSupplier(() -> new GuiceInjectorInitializer(finalModules,
+		final List<Element> finalElements = parallel ? elements : null;
+		final Map<String, Key<?>> finalSingletons = singletons;
+		final ModuleConfigurationReport finalReport = report;
+		beanDefinition.setInstanceSupplier(() -> new GuiceInjectorInitializer(finalModules, finalElements,
+				finalSingletons, deferred, async, parallelSingletons, moduleInjector, parentInjector, finalReport,
 				(ConfigurableApplicationContext) this.applicationContext));
 		beanDefinition.setAttribute(SpringModule.SPRING_GUICE_SOURCE, true);
 		registry.registerBeanDefinition("guiceInjectorInitializer", beanDefinition);
 	}
 
+	/**
+	 * The injector of the nearest ancestor context that has one, if the injector of this
+	 * context should be created as its child ({@code spring.guice.childInjector=true}).
+	 * @return the parent injector or null
+	 */
+	private Injector findParentInjector() {
+		if (!this.applicationContext.getEnvironment().getProperty(SPRING_GUICE_CHILD_INJECTOR_PROPERTY_NAME,
+				Boolean.class, false)) {
+			return null;
+		}
+		for (ApplicationContext parent = this.applicationContext.getParent(); parent != null; parent = parent
+				.getParent()) {
+			if (parent.containsLocalBean("injector")) {
+				Object injector = parent.getBean("injector");
+				if (injector instanceof Injector) {
+					return (Injector) injector;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static boolean boundInParent(Injector parentInjector, Element element) {
+		if (!(element instanceof Binding) || element.getSource() == null
+				|| !element.getSource().toString().contains(SpringModule.SPRING_GUICE_SOURCE)) {
+			return false;
+		}
+		return parentInjector.getExistingBinding(((Binding<?>) element).getKey()) != null;
+	}
+
 	private List<Module> filterModules(BeanDefinitionRegistry registry, List<Module> modules) {
 		Map<String, ModuleFilter> moduleFilters = ((ConfigurableListableBeanFactory) registry)
 				.getBeansOfType(ModuleFilter.class);
@@ -183,10 +388,14 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 
 	}
 
-	private void mapBindings(Map<Key<?>, Binding<?>> bindings, BeanDefinitionRegistry registry, SpringModule module) {
+	private Map<String, Key<?>> mapBindings(Map<Key<?>, Binding<?>> bindings, BeanDefinitionRegistry registry,
+			Provider<Injector> injector, List<GuiceLazyInitPolicy> lazyInitPolicies, Set<Key<?>> deferred,
+			ProvisionMetrics metrics, ProvisionTracer tracer, GuiceBridgeStatistics statistics) {
 		Stage stage = this.applicationContext.getEnvironment().getProperty(SPRING_GUICE_STAGE_PROPERTY_NAME,
 				Stage.class, Stage.PRODUCTION);
 		boolean ifLazyInit = stage.equals(Stage.DEVELOPMENT);
+		boolean providerBeans = this.applicationContext.getEnvironment()
+				.getProperty(SPRING_GUICE_PROVIDER_BEANS_PROPERTY_NAME, Boolean.class, false);
 		Map<? extends Key<?>, List<LinkedKeyBinding<?>>> linkedBindingsByKey = bindings.values().stream()
 				.filter((e) -> e instanceof LinkedKeyBinding).map((e) -> ((LinkedKeyBinding<?>) e))
 				.collect(Collectors.groupingBy(LinkedKeyBinding::getLinkedKey));
@@ -216,6 +425,7 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 					return true;
 				}).collect(Collectors.toMap(Entry::getKey, Entry::getValue));
 
+		Map<String, Key<?>> singletons = new HashMap<>();
 		for (Entry<? extends Key<?>, ? extends Binding<?>> entry : guiceBindingsByKey.entrySet()) {
 			Binding<?> binding = entry.getValue();
 			Key<?> key = entry.getKey();
@@ -227,32 +437,71 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 			bean.setInstanceSupplier(() -> {
 				@SuppressWarnings({ "rawtypes", "unchecked" })
 				GuiceFactoryBean factory = new GuiceFactoryBean(typeLiteral.getRawType(), key,
-						Scopes.isSingleton(binding), module.getInjector());
+						Scopes.isSingleton(binding), injector, metrics, tracer, statistics);
 				return factory;
 			});
 			bean.setTargetType(ResolvableType.forType(typeLiteral.getType()));
 			if (!Scopes.isSingleton(binding)) {
 				bean.setScope(ConfigurableBeanFactory.SCOPE_PROTOTYPE);
 			}
-			Object source = binding.getSource();
-			if (source instanceof ElementSource) {
-				bean.setResourceDescription(((ElementSource) source).getDeclaringSource().toString());
+			Boolean lazyInit = lazyInit(lazyInitPolicies, binding);
+			if (Boolean.TRUE.equals(lazyInit)) {
+				deferred.add(key);
 			}
-			else {
-				bean.setResourceDescription(SpringModule.SPRING_GUICE_SOURCE);
+			else if (lazyInit == null && ifLazyInit) {
+				lazyInit = true;
 			}
-			bean.setAttribute(SpringModule.SPRING_GUICE_SOURCE, true);
-			if (annotationType != null) {
-				String nameValue = getValueAttributeForNamed(key);
-				bean.addQualifier(new AutowireCandidateQualifier(Qualifier.class, nameValue));
-				bean.addQualifier(new AutowireCandidateQualifier(annotationType, nameValue));
+			describeBinding(bean, binding, key, annotationType, lazyInit);
+			String beanName = extractName(key);
+			registry.registerBeanDefinition(beanName, bean);
+			if (statistics != null) {
+				statistics.resolved(key.toString(), beanName);
 			}
-			if (ifLazyInit) {
-				bean.setLazyInit(true);
+			if (Scopes.isSingleton(binding)) {
+				singletons.put(beanName, key);
+			}
+			else if (providerBeans) {
+				// Expose the Guice provider itself so Spring beans can hold on to it
+				Key<?> providerKey = key.ofType(Types.providerOf(typeLiteral.getType()));
+				RootBeanDefinition provider = new RootBeanDefinition(com.google.inject.Provider.class);
+				provider.setInstanceSupplier(() -> injector.get().getProvider(key));
+				provider.setTargetType(ResolvableType.forType(providerKey.getTypeLiteral().getType()));
+				describeBinding(provider, binding, key, annotationType, lazyInit);
+				registry.registerBeanDefinition(extractName(providerKey), provider);
+			}
+		}
+		return singletons;
+	}
+
+	private Boolean lazyInit(List<GuiceLazyInitPolicy> lazyInitPolicies, Binding<?> binding) {
+		Boolean lazyInit = null;
+		for (GuiceLazyInitPolicy policy : lazyInitPolicies) {
+			Boolean value = policy.lazyInit(binding);
+			if (value != null) {
+				lazyInit = value;
 			}
-			registry.registerBeanDefinition(extractName(key), bean);
 		}
+		return lazyInit;
+	}
 
+	private void describeBinding(RootBeanDefinition bean, Binding<?> binding, Key<?> key,
+			Class<? extends Annotation> annotationType, Boolean lazyInit) {
+		Object source = binding.getSource();
+		if (source instanceof ElementSource) {
+			bean.setResourceDescription(((ElementSource) source).getDeclaringSource().toString());
+		}
+		else {
+			bean.setResourceDescription(SpringModule.SPRING_GUICE_SOURCE);
+		}
+		bean.setAttribute(SpringModule.SPRING_GUICE_SOURCE, true);
+		if (annotationType != null) {
+			String nameValue = getValueAttributeForNamed(key);
+			bean.addQualifier(new AutowireCandidateQualifier(Qualifier.class, nameValue));
+			bean.addQualifier(new AutowireCandidateQualifier(annotationType, nameValue));
+		}
+		if (lazyInit != null) {
+			bean.setLazyInit(lazyInit);
+		}
 	}
 
 	private String extractName(Key<?> key) {
@@ -412,19 +661,82 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 	 * the registerBeanPostProcessors() phase. For application contexts that override
 	 * onRefresh() and create beans then (i.e. WebServer based application contexts) the
 	 * post-processor initialization will kick-in and create the injector before.
+	 *
+	 * In asynchronous mode the injector is created on a background thread instead, and an
+	 * {@link Injector} proxy that waits for it is registered in the meantime, so that
+	 * only the beans that actually use the injector have to wait. The context refresh
+	 * still waits for the injector to be created before it completes. Spring beans that
+	 * Guice needs while the injector is being created are handed back to the refresh
+	 * thread, which provisions them while it waits, because the bean factory does not
+	 * allow another thread in while it is creating a singleton.
+	 *
+	 * In parallel mode the recorded elements are split into a parent injector (Spring
+	 * bindings and whatever they and the injector-wide elements need) and independent
+	 * groups of bindings, which are created concurrently as child injectors of the parent
+	 * and registered as a single composite injector.
+	 *
+	 * If the context has a parent with an injector and child injectors are enabled, the
+	 * injector is created as a child of the parent injector (which takes precedence over
+	 * parallel mode), so it only holds the bindings of this context.
+	 *
+	 * With parallel singletons the singletons that Guice did not create eagerly are
+	 * instantiated once the injector is created, on a fork-join pool and in dependency
+	 * order, so that each of them finds the singletons it depends on ready.
 	 */
-	static class GuiceInjectorInitializer
-			implements BeanPostProcessor, ApplicationListener<GuiceInjectorInitializer.CreateInjectorEvent> {
+	static class GuiceInjectorInitializer implements BeanPostProcessor, SmartInitializingSingleton,
+			ApplicationListener<GuiceInjectorInitializer.CreateInjectorEvent> {
 
 		private final AtomicBoolean injectorCreated = new AtomicBoolean(false);
 
 		private final List<Module> modules;
 
+		private final List<Element> elements;
+
+		private final Map<String, Key<?>> singletons;
+
+		private final Set<Key<?>> deferredSingletons;
+
+		private final boolean async;
+
+		private final boolean parallelSingletons;
+
+		private final Set<Key<?>> instantiatedSingletons = ConcurrentHashMap.newKeySet();
+
+		private final Provider<Injector> moduleInjector;
+
+		private final Injector parentInjector;
+
+		private final ModuleConfigurationReport report;
+
+		private final GuiceBridgeStatistics statistics;
+
 		private final ConfigurableApplicationContext applicationContext;
 
-		GuiceInjectorInitializer(List<Module> modules, ConfigurableApplicationContext applicationContext) {
+		private final BlockingQueue<Runnable> springProvisions = new LinkedBlockingQueue<>();
+
+		private final ThreadLocal<Boolean> provisioningForBackground = ThreadLocal.withInitial(() -> false);
+
+		private CompletableFuture<Injector> backgroundInjector;
+
+		private final Set<Thread> backgroundThreads = ConcurrentHashMap.newKeySet();
+
+		private volatile Thread refreshThread;
+
+		GuiceInjectorInitializer(List<Module> modules, List<Element> elements, Map<String, Key<?>> singletons,
+				Set<Key<?>> deferredSingletons, boolean async, boolean parallelSingletons,
+				Provider<Injector> moduleInjector, Injector parentInjector, ModuleConfigurationReport report,
+				ConfigurableApplicationContext applicationContext) {
 			this.modules = modules;
+			this.elements = elements;
+			this.singletons = singletons;
+			this.deferredSingletons = deferredSingletons;
+			this.async = async;
+			this.parallelSingletons = parallelSingletons;
+			this.moduleInjector = moduleInjector;
+			this.parentInjector = parentInjector;
+			this.report = report;
 			this.applicationContext = applicationContext;
+			this.statistics = GuiceBridgeStatistics.get(applicationContext.getBeanFactory());
 
 			applicationContext.publishEvent(new CreateInjectorEvent());
 		}
@@ -444,8 +756,34 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 			}
 		}
 
+		@Override
+		public void afterSingletonsInstantiated() {
+			if (this.backgroundInjector != null) {
+				await(this.backgroundInjector);
+				this.refreshThread = null;
+			}
+			if (this.report != null) {
+				this.report.write();
+			}
+		}
+
 		private void createInjector() {
-			Injector injector = null;
+			InjectorFactory injectorFactory = getInjectorFactory();
+			this.refreshThread = Thread.currentThread();
+			if (this.async) {
+				createInjectorInBackground(injectorFactory);
+				return;
+			}
+			Injector injector = buildInjector(injectorFactory);
+			this.refreshThread = null;
+			this.applicationContext.getBeanFactory().registerResolvableDependency(Injector.class, injector);
+			this.applicationContext.getBeanFactory().registerSingleton("injector", injector);
+			if (!this.singletons.isEmpty()) {
+				promoteSingletons(injector);
+			}
+		}
+
+		private InjectorFactory getInjectorFactory() {
 			try {
 				Map<String, InjectorFactory> beansOfType = this.applicationContext
 						.getBeansOfType(InjectorFactory.class);
@@ -456,20 +794,357 @@ class ModuleRegistryConfiguration implements BeanDefinitionRegistryPostProcessor
 							+ beansOfType.keySet());
 				}
 				else if (beansOfType.size() == 1) {
-					InjectorFactory injectorFactory = beansOfType.values().iterator().next();
-					injector = injectorFactory.createInjector(this.modules);
+					return beansOfType.values().iterator().next();
 				}
 			}
 			catch (NoSuchBeanDefinitionException ex) {
 
+			}
+			return null;
+		}
+
+		private Injector buildInjector(InjectorFactory injectorFactory) {
+			ApplicationStartup applicationStartup = this.applicationContext.getApplicationStartup();
+			StartupStep step = applicationStartup.start("spring.guice.injector.create")
+					.tag("modules", String.valueOf(this.modules.size())).tag("async", String.valueOf(this.async));
+			InjectorCreationEvent event = new InjectorCreationEvent();
+			event.begin();
+			long start = System.nanoTime();
+			List<Module> modules = this.modules;
+			if (this.async || this.elements != null || this.parallelSingletons) {
+				modules = new ArrayList<>(modules);
+				modules.add(springProvisionModule());
+			}
+			Injector injector = null;
+			if (injectorFactory != null) {
+				injector = injectorFactory.createInjector(modules);
+			}
+			else if (this.parentInjector != null) {
+				injector = this.parentInjector.createChildInjector(modules);
+			}
+			else if (this.elements != null) {
+				injector = buildParallelInjectors();
 			}
 			if (injector == null) {
-				injector = Guice.createInjector(this.modules);
+				injector = Guice.createInjector(modules);
+			}
+			if (this.report != null) {
+				this.report.injectorCreated(System.nanoTime() - start);
+			}
+			if (this.statistics != null) {
+				this.statistics.setInjectorCreationMillis((System.nanoTime() - start) / 1_000_000);
+			}
+			event.end();
+			if (event.shouldCommit()) {
+				event.setModules(this.modules.size());
+				event.setBindings(injector.getBindings().size());
+				event.setAsync(this.async);
+				event.commit();
+			}
+			step.tag("bindings", String.valueOf(injector.getBindings().size())).end();
+			if (this.parallelSingletons) {
+				StartupStep singletons = applicationStartup.start("spring.guice.singletons.instantiate");
+				singletons.tag("singletons", String.valueOf(instantiateSingletons(injector))).end();
+			}
+			return injector;
+		}
+
+		private int instantiateSingletons(Injector injector) {
+			if (injector.getInstance(Stage.class) == Stage.PRODUCTION) {
+				// Guice has created them all already
+				return 0;
+			}
+			Map<Key<?>, Binding<?>> singletons = new LinkedHashMap<>();
+			for (Binding<?> binding : injector.getAllBindings().values()) {
+				if (Scopes.isSingleton(binding) && !binding.acceptScopingVisitor(EagerSingletonVisitor.INSTANCE)
+						&& !binding.getSource().toString().contains(SpringModule.SPRING_GUICE_SOURCE)
+						&& !this.deferredSingletons.contains(binding.getKey())) {
+					singletons.put(binding.getKey(), binding);
+				}
+			}
+			if (singletons.isEmpty()) {
+				return 0;
+			}
+			ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), (forkJoinPool) -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+				thread.setName("spring-guice-singletons-" + thread.getPoolIndex());
+				return thread;
+			}, null, false);
+			try {
+				Map<Key<?>, CompletableFuture<Void>> futures = new HashMap<>();
+				for (Key<?> key : singletons.keySet()) {
+					instantiateSingleton(injector, key, singletons, futures, pool);
+				}
+				await(CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])));
+			}
+			finally {
+				pool.shutdown();
+			}
+			return singletons.size();
+		}
+
+		/**
+		 * Schedule the instantiation of a singleton once the singletons it depends on are
+		 * instantiated. Dependency cycles are left for Guice to resolve.
+		 * @param injector the injector
+		 * @param key the key of the singleton
+		 * @param singletons the singletons to instantiate
+		 * @param futures the instantiations scheduled so far (null while in progress)
+		 * @param pool the pool to instantiate them on
+		 * @return the instantiation of the singleton
+		 */
+		private CompletableFuture<Void> instantiateSingleton(Injector injector, Key<?> key,
+				Map<Key<?>, Binding<?>> singletons, Map<Key<?>, CompletableFuture<Void>> futures, Executor pool) {
+			if (futures.containsKey(key)) {
+				CompletableFuture<Void> future = futures.get(key);
+				return (future != null) ? future : CompletableFuture.completedFuture(null);
+			}
+			futures.put(key, null);
+			Set<Key<?>> dependencies = new LinkedHashSet<>();
+			collectSingletonDependencies(injector, singletons.get(key), singletons, dependencies, new HashSet<>());
+			List<CompletableFuture<Void>> prerequisites = new ArrayList<>();
+			for (Key<?> dependency : dependencies) {
+				prerequisites.add(instantiateSingleton(injector, dependency, singletons, futures, pool));
+			}
+			CompletableFuture<Void> future = CompletableFuture.allOf(prerequisites.toArray(new CompletableFuture<?>[0]))
+					.thenRunAsync(() -> {
+						inBackground(() -> injector.getInstance(key));
+						this.instantiatedSingletons.add(key);
+					}, pool);
+			futures.put(key, future);
+			return future;
+		}
+
+		private void collectSingletonDependencies(Injector injector, Binding<?> binding,
+				Map<Key<?>, Binding<?>> singletons, Set<Key<?>> result, Set<Key<?>> visited) {
+			if (binding == null) {
+				return;
+			}
+			List<Key<?>> keys = new ArrayList<>();
+			if (binding instanceof LinkedKeyBinding) {
+				keys.add(((LinkedKeyBinding<?>) binding).getLinkedKey());
 			}
+			else if (binding instanceof HasDependencies) {
+				for (Dependency<?> dependency : ((HasDependencies) binding).getDependencies()) {
+					keys.add(dependency.getKey());
+				}
+			}
+			for (Key<?> key : keys) {
+				if (!visited.add(key) || key.equals(binding.getKey())) {
+					continue;
+				}
+				if (singletons.containsKey(key)) {
+					result.add(key);
+				}
+				else {
+					// Look through unscoped bindings for the singletons they need
+					collectSingletonDependencies(injector, injector.getExistingBinding(key), singletons, result,
+							visited);
+				}
+			}
+		}
+
+		private Module springProvisionModule() {
+			return (binder) -> binder.bindListener(SpringBindingMatcher.INSTANCE, new SpringProvisionListener());
+		}
+
+		private Injector buildParallelInjectors() {
+			StartupStep step = this.applicationContext.getApplicationStartup().start("spring.guice.injector.partition");
+			InjectorPartitions partitions = InjectorPartitions.of(this.elements);
+			step.tag("components", String.valueOf((partitions != null) ? partitions.getComponents().size() : 1)).end();
+			if (partitions == null) {
+				return null;
+			}
+			Injector parent = Guice.createInjector(Elements.getModule(partitions.getParent()), springProvisionModule());
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-guice-injector-");
+			List<CompletableFuture<Injector>> futures = new ArrayList<>();
+			for (List<Element> component : partitions.getComponents()) {
+				futures.add(CompletableFuture.supplyAsync(
+						() -> inBackground(() -> parent.createChildInjector(Elements.getModule(component))), executor));
+			}
+			await(CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])));
+			List<Injector> children = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+			return new CompositeInjector(parent, children, partitions.getComponentKeys());
+		}
+
+		private <T> T inBackground(Supplier<T> supplier) {
+			this.backgroundThreads.add(Thread.currentThread());
+			try {
+				return supplier.get();
+			}
+			finally {
+				this.backgroundThreads.remove(Thread.currentThread());
+			}
+		}
+
+		private void createInjectorInBackground(InjectorFactory injectorFactory) {
+			this.backgroundInjector = CompletableFuture.supplyAsync(
+					() -> inBackground(() -> buildInjector(injectorFactory)),
+					new SimpleAsyncTaskExecutor("spring-guice-injector-"));
+			ProxyFactory proxyFactory = new ProxyFactory();
+			proxyFactory.setTargetSource(new BackgroundInjectorTargetSource());
+			proxyFactory.addInterface(Injector.class);
+			Injector injector = (Injector) proxyFactory.getProxy(this.applicationContext.getClassLoader());
 			this.applicationContext.getBeanFactory().registerResolvableDependency(Injector.class, injector);
 			this.applicationContext.getBeanFactory().registerSingleton("injector", injector);
 		}
 
+		/**
+		 * Wait for work done in the background, provisioning the Spring beans requested
+		 * by background threads in the meantime if this is the refresh thread.
+		 * @param <T> the type of the result
+		 * @param future the background work
+		 * @return the result
+		 */
+		private <T> T await(CompletableFuture<T> future) {
+			if (!future.isDone() && Thread.currentThread() == this.refreshThread) {
+				// Wake up the refresh thread when the work is done
+				Runnable wakeUp = () -> {
+				};
+				CompletableFuture<Boolean> woken = future.handle((result, ex) -> this.springProvisions.add(wakeUp));
+				while (!future.isDone()) {
+					try {
+						this.springProvisions.take().run();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						throw new ApplicationContextException("Interrupted while creating Guice injector", ex);
+					}
+				}
+				// Do not leave the wake-up call behind if the loop ended without it
+				woken.join();
+				this.springProvisions.remove(wakeUp);
+			}
+			return join(future);
+		}
+
+		private static <T> T join(CompletableFuture<T> future) {
+			try {
+				return future.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				}
+				if (ex.getCause() instanceof Error) {
+					throw (Error) ex.getCause();
+				}
+				throw new ApplicationContextException("Failed to create Guice injector", ex.getCause());
+			}
+		}
+
+		/**
+		 * Register the Guice singletons that the injector has already instantiated
+		 * directly in the Spring singleton registry, so that lookups no longer go through
+		 * the {@link GuiceFactoryBean}. Singletons that Guice creates lazily are left
+		 * alone, as are factory beans that Spring has already instantiated.
+		 * @param injector the newly created injector
+		 */
+		private void promoteSingletons(Injector injector) {
+			ConfigurableListableBeanFactory beanFactory = this.applicationContext.getBeanFactory();
+			boolean production = injector.getInstance(Stage.class) == Stage.PRODUCTION;
+			for (Entry<String, Key<?>> entry : this.singletons.entrySet()) {
+				String beanName = entry.getKey();
+				Binding<?> binding = injector.getExistingBinding(entry.getValue());
+				if (binding == null || beanFactory.containsSingleton(beanName)) {
+					continue;
+				}
+				if (production || binding.acceptScopingVisitor(EagerSingletonVisitor.INSTANCE)
+						|| this.instantiatedSingletons.contains(binding.getKey())) {
+					beanFactory.registerSingleton(beanName, injector.getInstance(binding.getKey()));
+				}
+			}
+		}
+
+		/**
+		 * Target source for the placeholder injector that waits for the background
+		 * creation to finish. Guice provisions on the background thread that come back
+		 * through Spring are served by the injector under construction, so they cannot
+		 * deadlock.
+		 */
+		private final class BackgroundInjectorTargetSource implements TargetSource {
+
+			@Override
+			public Class<?> getTargetClass() {
+				return Injector.class;
+			}
+
+			@Override
+			public boolean isStatic() {
+				return false;
+			}
+
+			@Override
+			public Object getTarget() {
+				if (GuiceInjectorInitializer.this.backgroundThreads.contains(Thread.currentThread())
+						|| GuiceInjectorInitializer.this.provisioningForBackground.get()) {
+					return GuiceInjectorInitializer.this.moduleInjector.get();
+				}
+				return await(GuiceInjectorInitializer.this.backgroundInjector);
+			}
+
+			@Override
+			public void releaseTarget(Object target) {
+			}
+
+		}
+
+		/**
+		 * Hands the provisioning of Spring beans requested by background threads over to
+		 * the refresh thread and waits for the result.
+		 */
+		private final class SpringProvisionListener implements ProvisionListener {
+
+			@Override
+			public <T> void onProvision(ProvisionInvocation<T> provision) {
+				if (!GuiceInjectorInitializer.this.backgroundThreads.contains(Thread.currentThread())) {
+					return;
+				}
+				CompletableFuture<T> result = new CompletableFuture<>();
+				GuiceInjectorInitializer.this.springProvisions.add(() -> {
+					GuiceInjectorInitializer.this.provisioningForBackground.set(true);
+					try {
+						result.complete(provision.provision());
+					}
+					catch (Throwable ex) {
+						result.completeExceptionally(ex);
+					}
+					finally {
+						GuiceInjectorInitializer.this.provisioningForBackground.remove();
+					}
+				});
+				join(result);
+			}
+
+		}
+
+		private static final class SpringBindingMatcher implements Matcher<Binding<?>> {
+
+			private static final SpringBindingMatcher INSTANCE = new SpringBindingMatcher();
+
+			@Override
+			public boolean matches(Binding<?> binding) {
+				return binding.getSource().toString().contains(SpringModule.SPRING_GUICE_SOURCE);
+			}
+
+		}
+
+		private static final class EagerSingletonVisitor extends DefaultBindingScopingVisitor<Boolean> {
+
+			private static final EagerSingletonVisitor INSTANCE = new EagerSingletonVisitor();
+
+			@Override
+			public Boolean visitEagerSingleton() {
+				return true;
+			}
+
+			@Override
+			protected Boolean visitOther() {
+				return false;
+			}
+
+		}
+
 		static class CreateInjectorEvent extends ApplicationEvent {
 
 			private static final long serialVersionUID = -6546970378679850504L;
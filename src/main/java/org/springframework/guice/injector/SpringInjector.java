@@ -17,11 +17,21 @@
 package org.springframework.guice.injector;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.google.inject.Binder;
 import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.MembersInjector;
@@ -30,23 +40,46 @@ import com.google.inject.Provider;
 import com.google.inject.Scope;
 import com.google.inject.TypeLiteral;
 import com.google.inject.name.Named;
+import com.google.inject.spi.Dependency;
 import com.google.inject.spi.Element;
+import com.google.inject.spi.ElementSource;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.HasDependencies;
 import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.ProviderLookup;
+import com.google.inject.spi.StaticInjectionRequest;
 import com.google.inject.spi.TypeConverterBinding;
+import com.google.inject.spi.UntargettedBinding;
 import jakarta.inject.Qualifier;
 
+import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.beans.factory.annotation.QualifierAnnotationAutowireCandidateResolver;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.AutowireCandidateResolver;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.SpringVersion;
+import org.springframework.guice.jfr.ProvisionEvent;
+import org.springframework.guice.module.SpringModule;
+import org.springframework.util.StringUtils;
 
 /**
  * An {@link Injector} that wraps an {@link ApplicationContext}, and can be used to expose
  * the Guice APIs over a Spring application. Does not use Guice at all internally: just
  * adapts the Spring API to the Guice one.
+ * <p>
+ * Child injectors are backed by a child bean factory of this one, so they are cheap to
+ * create: nothing is copied, and lookups that the child cannot satisfy fall through to
+ * the parent and its caches. Modules passed to a child are bound only in the child, in a
+ * child of the Guice injector of the context if it has one, and the Spring beans that
+ * they need are looked up through this injector.
  *
  * @author Dave Syer
  *
@@ -57,6 +90,10 @@ public class SpringInjector implements Injector {
 
 	private DefaultListableBeanFactory beanFactory;
 
+	private SpringInjector parent;
+
+	private Set<Key<?>> moduleKeys = Collections.emptySet();
+
 	private static boolean JAKARTA = false;
 
 	public SpringInjector(ApplicationContext context) {
@@ -73,6 +110,14 @@ public class SpringInjector implements Injector {
 		}
 	}
 
+	private SpringInjector(SpringInjector parent, DefaultListableBeanFactory beanFactory, Injector injector,
+			Set<Key<?>> moduleKeys) {
+		this.parent = parent;
+		this.beanFactory = beanFactory;
+		this.injector = injector;
+		this.moduleKeys = moduleKeys;
+	}
+
 	@Override
 	public void injectMembers(Object instance) {
 		this.beanFactory.autowireBean(instance);
@@ -127,27 +172,31 @@ public class SpringInjector implements Injector {
 	public <T> Provider<T> getProvider(Key<T> key) {
 		// TODO: support for other metadata in the key (apart from name and
 		// type)
+		if (this.moduleKeys.contains(key)) {
+			// Bound by the modules of this child injector
+			return traced(key, null, this.injector.getProvider(key));
+		}
 		Class<? super T> type = key.getTypeLiteral().getRawType();
 		final String name = extractName(key);
-		if (this.beanFactory.getBeanNamesForType(type, true, false).length == 0) {
+		if (BeanFactoryUtils.beanNamesForTypeIncludingAncestors(this.beanFactory, type, true, false).length == 0) {
 			if (this.injector != null) {
-				return this.injector.getProvider(key);
+				return traced(key, null, this.injector.getProvider(key));
 			}
 			// TODO: use prototype scope?
 			this.beanFactory.registerBeanDefinition(name, new RootBeanDefinition(type));
 		}
 		if (this.beanFactory.containsBean(name) && this.beanFactory.isTypeMatch(name, type)) {
-			return new Provider<T>() {
+			return traced(key, name, new Provider<T>() {
 				@SuppressWarnings("unchecked")
 				@Override
 				public T get() {
 					return (T) SpringInjector.this.beanFactory.getBean(name);
 				}
-			};
+			});
 		}
 		@SuppressWarnings("unchecked")
 		final Class<T> cls = (Class<T>) type;
-		return new Provider<T>() {
+		return traced(key, null, new Provider<T>() {
 			@SuppressWarnings("unchecked")
 			@Override
 			public T get() {
@@ -157,6 +206,49 @@ public class SpringInjector implements Injector {
 				}
 				return SpringInjector.this.beanFactory.getBean(cls);
 			}
+		});
+	}
+
+	private <T> Provider<T> traced(Key<T> key, String beanName, Provider<T> provider) {
+		if (!new ProvisionEvent().isEnabled()) {
+			// Not recording, so there is nothing to wrap the provider for
+			return provider;
+		}
+		return new Provider<T>() {
+
+			private volatile boolean resolved;
+
+			@Override
+			public T get() {
+				ProvisionEvent event = new ProvisionEvent();
+				event.begin();
+				boolean firstResolution = !this.resolved;
+				try {
+					T result = provider.get();
+					this.resolved = true;
+					return result;
+				}
+				finally {
+					event.end();
+					if (event.shouldCommit()) {
+						event.setOrigin(SpringInjector.class.getSimpleName());
+						event.setKey(key.toString());
+						event.setBeanName(beanName);
+						if (beanName != null && SpringInjector.this.beanFactory.containsBeanDefinition(beanName)) {
+							String scope = SpringInjector.this.beanFactory.getMergedBeanDefinition(beanName).getScope();
+							event.setScope(StringUtils.hasText(scope) ? scope : BeanDefinition.SCOPE_SINGLETON);
+						}
+						event.setFirstResolution(firstResolution);
+						event.commit();
+					}
+				}
+			}
+
+			@Override
+			public String toString() {
+				return provider.toString();
+			}
+
 		};
 	}
 
@@ -188,17 +280,140 @@ public class SpringInjector implements Injector {
 
 	@Override
 	public Injector getParent() {
-		return null;
+		return this.parent;
 	}
 
 	@Override
 	public Injector createChildInjector(Iterable<? extends Module> modules) {
-		return null;
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory(this.beanFactory);
+		beanFactory.copyConfigurationFrom(this.beanFactory);
+		List<Module> list = new ArrayList<>();
+		modules.forEach(list::add);
+		if (list.isEmpty()) {
+			return new SpringInjector(this, beanFactory, this.injector, this.moduleKeys);
+		}
+		// Only the modules are bound, together with the Spring beans that they need
+		// (not all of them), which are looked up through this injector
+		List<Element> elements = Elements.getElements(list);
+		Module module = Elements.getModule(elements);
+		Module spring = springBindings(elements);
+		Injector injector = (this.injector != null) ? this.injector.createChildInjector(module, spring)
+				: Guice.createInjector(module, spring);
+		Set<Key<?>> moduleKeys = new HashSet<>(this.moduleKeys);
+		for (Binding<?> binding : injector.getBindings().values()) {
+			if (binding.getSource() instanceof ElementSource
+					&& !binding.getSource().toString().contains(SpringModule.SPRING_GUICE_SOURCE)) {
+				moduleKeys.add(binding.getKey());
+			}
+		}
+		return new SpringInjector(this, beanFactory, injector, moduleKeys);
 	}
 
 	@Override
 	public Injector createChildInjector(Module... modules) {
-		return null;
+		return createChildInjector(Arrays.asList(modules));
+	}
+
+	private Module springBindings(List<Element> elements) {
+		Set<Key<?>> bound = new HashSet<>();
+		List<Key<?>> needed = new ArrayList<>();
+		for (Element element : elements) {
+			collect(element, bound, needed);
+		}
+		Set<Key<?>> visited = new HashSet<>();
+		Set<Key<?>> spring = new LinkedHashSet<>();
+		while (!needed.isEmpty()) {
+			Key<?> key = needed.remove(needed.size() - 1);
+			if (bound.contains(key) || !visited.add(key)) {
+				continue;
+			}
+			TypeLiteral<?> type = key.getTypeLiteral();
+			if ((type.getRawType() == Provider.class || type.getRawType() == jakarta.inject.Provider.class)
+					&& type.getType() instanceof ParameterizedType) {
+				needed.add(key.ofType(((ParameterizedType) type.getType()).getActualTypeArguments()[0]));
+			}
+			else if (this.injector != null && this.injector.getExistingBinding(key) != null) {
+				// Already bound in the parent
+				continue;
+			}
+			else if (BeanFactoryUtils.beanNamesForTypeIncludingAncestors(this.beanFactory, type.getRawType(), true,
+					false).length > 0) {
+				spring.add(key);
+			}
+			else if (key.getAnnotationType() == null) {
+				// A just-in-time binding, which may need Spring beans itself
+				try {
+					addDependencies(needed, Collections.singleton(InjectionPoint.forConstructorOf(type)));
+					addDependencies(needed, InjectionPoint.forInstanceMethodsAndFields(type));
+				}
+				catch (ConfigurationException ex) {
+					// Guice will report it
+				}
+			}
+		}
+		return (binder) -> {
+			for (Key<?> key : spring) {
+				bindSpring(binder.withSource(SpringModule.SPRING_GUICE_SOURCE), key);
+			}
+		};
+	}
+
+	private <T> void bindSpring(Binder binder, Key<T> key) {
+		binder.bind(key).toProvider(getProvider(key));
+	}
+
+	private static void collect(Element element, Set<Key<?>> bound, List<Key<?>> needed) {
+		try {
+			if (element instanceof PrivateElements) {
+				for (Element child : ((PrivateElements) element).getElements()) {
+					collect(child, bound, needed);
+				}
+				return;
+			}
+			if (element instanceof Binding) {
+				bound.add(((Binding<?>) element).getKey());
+			}
+			if (element instanceof UntargettedBinding) {
+				TypeLiteral<?> type = ((Binding<?>) element).getKey().getTypeLiteral();
+				addDependencies(needed, Collections.singleton(InjectionPoint.forConstructorOf(type)));
+				addDependencies(needed, InjectionPoint.forInstanceMethodsAndFields(type));
+			}
+			else if (element instanceof LinkedKeyBinding) {
+				needed.add(((LinkedKeyBinding<?>) element).getLinkedKey());
+			}
+			else if (element instanceof ProviderKeyBinding) {
+				needed.add(((ProviderKeyBinding<?>) element).getProviderKey());
+			}
+			else if (element instanceof HasDependencies) {
+				for (Dependency<?> dependency : ((HasDependencies) element).getDependencies()) {
+					needed.add(dependency.getKey());
+				}
+			}
+			else if (element instanceof ProviderLookup) {
+				needed.add(((ProviderLookup<?>) element).getKey());
+			}
+			else if (element instanceof MembersInjectorLookup) {
+				addDependencies(needed,
+						InjectionPoint.forInstanceMethodsAndFields(((MembersInjectorLookup<?>) element).getType()));
+			}
+			else if (element instanceof InjectionRequest) {
+				addDependencies(needed, ((InjectionRequest<?>) element).getInjectionPoints());
+			}
+			else if (element instanceof StaticInjectionRequest) {
+				addDependencies(needed, ((StaticInjectionRequest) element).getInjectionPoints());
+			}
+		}
+		catch (ConfigurationException ex) {
+			// Guice will report it when the injector is created
+		}
+	}
+
+	private static void addDependencies(List<Key<?>> keys, Collection<InjectionPoint> injectionPoints) {
+		for (InjectionPoint injectionPoint : injectionPoints) {
+			for (Dependency<?> dependency : injectionPoint.getDependencies()) {
+				keys.add(dependency.getKey());
+			}
+		}
 	}
 
 	@Override
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for recording the elements of the Guice modules in a Spring
+ * application context, before their bindings are registered as bean definitions.
+ *
+ * @author Dave Syer
+ */
+@Name(ElementRecordingEvent.NAME)
+@Label("Spring Guice Element Recording")
+@Category({ "Spring Application", "Guice" })
+@Description("Recording the elements of the Guice modules in a Spring application context")
+@StackTrace(false)
+public final class ElementRecordingEvent extends Event {
+
+	/**
+	 * The name of the event.
+	 */
+	public static final String NAME = "org.springframework.guice.ElementRecording";
+
+	@Label("Modules")
+	private int modules;
+
+	@Label("Elements")
+	private int elements;
+
+	public int getModules() {
+		return this.modules;
+	}
+
+	public void setModules(int modules) {
+		this.modules = modules;
+	}
+
+	public int getElements() {
+		return this.elements;
+	}
+
+	public void setElements(int elements) {
+		this.elements = elements;
+	}
+
+}
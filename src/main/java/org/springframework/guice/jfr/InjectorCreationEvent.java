@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the creation of the Guice injector by
+ * {@link org.springframework.guice.annotation.EnableGuiceModules}.
+ *
+ * @author Dave Syer
+ */
+@Name(InjectorCreationEvent.NAME)
+@Label("Spring Guice Injector Creation")
+@Category({ "Spring Application", "Guice" })
+@Description("Creation of the Guice injector for a Spring application context")
+@StackTrace(false)
+public final class InjectorCreationEvent extends Event {
+
+	/**
+	 * The name of the event.
+	 */
+	public static final String NAME = "org.springframework.guice.InjectorCreation";
+
+	@Label("Modules")
+	private int modules;
+
+	@Label("Bindings")
+	private int bindings;
+
+	@Label("Asynchronous")
+	@Description("Whether the injector was created in the background")
+	private boolean async;
+
+	public int getModules() {
+		return this.modules;
+	}
+
+	public void setModules(int modules) {
+		this.modules = modules;
+	}
+
+	public int getBindings() {
+		return this.bindings;
+	}
+
+	public void setBindings(int bindings) {
+		this.bindings = bindings;
+	}
+
+	public boolean isAsync() {
+		return this.async;
+	}
+
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for an instance provided across the boundary between Spring and
+ * Guice: a Spring bean injected into Guice, a Guice binding looked up as a Spring bean,
+ * or a lazy proxy resolving its target. Enable it and set its threshold in the JFR
+ * settings (it only records provisions over 1 ms by default). When it is not enabled the
+ * JIT removes the instrumentation.
+ *
+ * @author Dave Syer
+ */
+@Name(ProvisionEvent.NAME)
+@Label("Spring Guice Provision")
+@Category({ "Spring Application", "Guice" })
+@Description("An instance provided across the boundary between Spring and Guice")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class ProvisionEvent extends Event {
+
+	/**
+	 * The name of the event.
+	 */
+	public static final String NAME = "org.springframework.guice.Provision";
+
+	@Label("Origin")
+	@Description("The part of the bridge that provided the instance")
+	private String origin;
+
+	@Label("Key")
+	private String key;
+
+	@Label("Bean Name")
+	private String beanName;
+
+	@Label("Scope")
+	private String scope;
+
+	@Label("First Resolution")
+	@Description("Whether the target had to be looked up, rather than reusing an earlier lookup")
+	private boolean firstResolution;
+
+	public String getOrigin() {
+		return this.origin;
+	}
+
+	public void setOrigin(String origin) {
+		this.origin = origin;
+	}
+
+	public String getKey() {
+		return this.key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	public String getBeanName() {
+		return this.beanName;
+	}
+
+	public void setBeanName(String beanName) {
+		this.beanName = beanName;
+	}
+
+	public String getScope() {
+		return this.scope;
+	}
+
+	public void setScope(String scope) {
+		this.scope = scope;
+	}
+
+	public boolean isFirstResolution() {
+		return this.firstResolution;
+	}
+
+	public void setFirstResolution(boolean firstResolution) {
+		this.firstResolution = firstResolution;
+	}
+
+}
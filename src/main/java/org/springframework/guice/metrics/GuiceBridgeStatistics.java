@@ -0,0 +1,218 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * State and costs of the bridge between a Spring bean factory and Guice: how many
+ * bindings and bean definitions it generated, how long the injector took to create, how
+ * many instances crossed over, and which bean each key resolved to. Switched off by
+ * default, and switched on with {@code spring.guice.statistics=true}, in which case there
+ * is one per bean factory, created when <code>@EnableGuiceModules</code> or a
+ * <code>SpringModule</code> first uses it, and registered as a platform MBean named
+ * <code>org.springframework.guice:type=GuiceBridge,context=&lt;id&gt;</code> (unless
+ * {@code spring.guice.jmx=false}) until the bean factory is closed.
+ *
+ * @author Dave Syer
+ */
+public final class GuiceBridgeStatistics implements GuiceBridgeStatisticsMBean, DisposableBean {
+
+	/**
+	 * The name of the singleton holding the statistics in the bean factory.
+	 */
+	public static final String BEAN_NAME = "org.springframework.guice.metrics.guiceBridgeStatistics";
+
+	private static final String SPRING_GUICE_STATISTICS_PROPERTY_NAME = "spring.guice.statistics";
+
+	private static final String SPRING_GUICE_JMX_PROPERTY_NAME = "spring.guice.jmx";
+
+	private static final Log logger = LogFactory.getLog(GuiceBridgeStatistics.class);
+
+	private final Map<String, String> resolutions = new ConcurrentHashMap<>();
+
+	private final LongAdder lazyProxies = new LongAdder();
+
+	private final LongAdder provisions = new LongAdder();
+
+	private volatile int springBeanBindings;
+
+	private volatile int guiceBeanDefinitions;
+
+	private volatile int duplicateBindingsRemoved;
+
+	private volatile long injectorCreationMillis = -1;
+
+	private ObjectName objectName;
+
+	private GuiceBridgeStatistics() {
+	}
+
+	/**
+	 * The statistics for a bean factory, created (and registered as an MBean) if
+	 * necessary.
+	 * @param beanFactory the bean factory
+	 * @return the statistics, or null if they are not switched on
+	 */
+	public static GuiceBridgeStatistics get(ConfigurableListableBeanFactory beanFactory) {
+		synchronized (GuiceBridgeStatistics.class) {
+			if (beanFactory.containsSingleton(BEAN_NAME)) {
+				return (GuiceBridgeStatistics) beanFactory.getSingleton(BEAN_NAME);
+			}
+			if (!isEnabled(beanFactory, SPRING_GUICE_STATISTICS_PROPERTY_NAME, false)) {
+				return null;
+			}
+			GuiceBridgeStatistics statistics = new GuiceBridgeStatistics();
+			beanFactory.registerSingleton(BEAN_NAME, statistics);
+			if (beanFactory instanceof DefaultListableBeanFactory) {
+				DefaultListableBeanFactory listable = (DefaultListableBeanFactory) beanFactory;
+				listable.registerDisposableBean(BEAN_NAME, statistics);
+				if (isEnabled(beanFactory, SPRING_GUICE_JMX_PROPERTY_NAME, true)) {
+					statistics.register((listable.getSerializationId() != null) ? listable.getSerializationId()
+							: ObjectUtils.identityToString(beanFactory));
+				}
+			}
+			return statistics;
+		}
+	}
+
+	private static boolean isEnabled(ConfigurableListableBeanFactory beanFactory, String property,
+			boolean defaultValue) {
+		if (beanFactory.containsSingleton("environment")) {
+			Object environment = beanFactory.getSingleton("environment");
+			if (environment instanceof Environment) {
+				return ((Environment) environment).getProperty(property, Boolean.class, defaultValue);
+			}
+		}
+		return Boolean.parseBoolean(System.getProperty(property, String.valueOf(defaultValue)));
+	}
+
+	private void register(String id) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(
+					"org.springframework.guice:type=GuiceBridge,context=" + ObjectName.quote(id));
+			if (!server.isRegistered(name)) {
+				server.registerMBean(this, name);
+				this.objectName = name;
+			}
+		}
+		catch (JMException ex) {
+			logger.warn("Could not register Guice bridge MBean", ex);
+		}
+	}
+
+	public void setSpringBeanBindings(int springBeanBindings) {
+		this.springBeanBindings = springBeanBindings;
+	}
+
+	public void setGuiceBeanDefinitions(int guiceBeanDefinitions) {
+		this.guiceBeanDefinitions = guiceBeanDefinitions;
+	}
+
+	public void setDuplicateBindingsRemoved(int duplicateBindingsRemoved) {
+		this.duplicateBindingsRemoved = duplicateBindingsRemoved;
+	}
+
+	public void setInjectorCreationMillis(long injectorCreationMillis) {
+		this.injectorCreationMillis = injectorCreationMillis;
+	}
+
+	/**
+	 * Count a lazy resolution proxy.
+	 */
+	public void lazyProxyCreated() {
+		this.lazyProxies.increment();
+	}
+
+	/**
+	 * Count an instance provided across the bridge.
+	 */
+	public void provisioned() {
+		this.provisions.increment();
+	}
+
+	/**
+	 * Record the bean that a key resolved to.
+	 * @param key a description of the key
+	 * @param beanName the bean name
+	 */
+	public void resolved(String key, String beanName) {
+		this.resolutions.put(key, beanName);
+	}
+
+	@Override
+	public int getSpringBeanBindings() {
+		return this.springBeanBindings;
+	}
+
+	@Override
+	public int getGuiceBeanDefinitions() {
+		return this.guiceBeanDefinitions;
+	}
+
+	@Override
+	public int getDuplicateBindingsRemoved() {
+		return this.duplicateBindingsRemoved;
+	}
+
+	@Override
+	public long getLazyProxiesCreated() {
+		return this.lazyProxies.sum();
+	}
+
+	@Override
+	public long getInjectorCreationMillis() {
+		return this.injectorCreationMillis;
+	}
+
+	@Override
+	public long getCrossContainerProvisions() {
+		return this.provisions.sum();
+	}
+
+	@Override
+	public String[] dumpResolutions() {
+		return this.resolutions.entrySet().stream().map((entry) -> entry.getKey() + " -> " + entry.getValue()).sorted()
+				.toArray(String[]::new);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		if (this.objectName != null) {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+			this.objectName = null;
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+/**
+ * JMX view of {@link GuiceBridgeStatistics}.
+ *
+ * @author Dave Syer
+ */
+public interface GuiceBridgeStatisticsMBean {
+
+	/**
+	 * The number of Guice bindings generated from Spring beans by the
+	 * <code>SpringModule</code>.
+	 * @return the number of bindings
+	 */
+	int getSpringBeanBindings();
+
+	/**
+	 * The number of bean definitions registered for Guice bindings.
+	 * @return the number of bean definitions
+	 */
+	int getGuiceBeanDefinitions();
+
+	/**
+	 * The number of duplicate bindings removed (with {@code spring.guice.dedup=true}).
+	 * @return the number of bindings removed
+	 */
+	int getDuplicateBindingsRemoved();
+
+	/**
+	 * The number of lazy resolution proxies created for just-in-time bindings.
+	 * @return the number of proxies
+	 */
+	long getLazyProxiesCreated();
+
+	/**
+	 * The time taken to create the Guice injector.
+	 * @return the time in milliseconds (or -1 if it has not been created)
+	 */
+	long getInjectorCreationMillis();
+
+	/**
+	 * The number of instances provided across the bridge, in either direction.
+	 * @return the number of provisions
+	 */
+	long getCrossContainerProvisions();
+
+	/**
+	 * The keys resolved across the bridge and the bean names they resolved to, one per
+	 * line as <code>key -&gt; bean name</code>.
+	 * @return the resolutions
+	 */
+	String[] dumpResolutions();
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.google.inject.Key;
+import com.google.inject.spi.ProvisionListener;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Per-key counts and latency histograms of the provisions that cross the bridge between
+ * Spring and Guice: Spring beans injected into Guice and Guice bindings looked up as
+ * Spring beans. Declare one of these as a <code>@Bean</code> to switch it on:
+ *
+ * <pre class="code">
+ * &#064;Bean
+ * public static ProvisionMetrics provisionMetrics() {
+ * 	return new ProvisionMetrics();
+ * }
+ * </pre>
+ *
+ * Set {@link #setGuiceProvisions(boolean) guiceProvisions} to also time every provision
+ * made by the Guice injector. The statistics are available from this object and (unless
+ * {@link #setJmxEnabled(boolean) disabled}) from a platform MBean named
+ * <code>org.springframework.guice:type=ProvisionMetrics,context=&lt;id&gt;</code>.
+ *
+ * @author Dave Syer
+ */
+public class ProvisionMetrics
+		implements ProvisionMetricsMBean, ApplicationContextAware, SmartInitializingSingleton, DisposableBean {
+
+	/**
+	 * Origin of provisions of Spring beans injected into Guice.
+	 */
+	public static final String SPRING_BEAN = "spring";
+
+	/**
+	 * Origin of provisions of Guice bindings looked up as Spring beans.
+	 */
+	public static final String GUICE_BEAN = "guice";
+
+	/**
+	 * Origin of all provisions made by the Guice injector (with
+	 * {@link #setGuiceProvisions(boolean) guiceProvisions}).
+	 */
+	public static final String GUICE_PROVISION = "guice-provision";
+
+	private final Map<String, ProvisionStatistics> statistics = new ConcurrentHashMap<>();
+
+	private final Map<Key<?>, ProvisionStatistics> guiceStatistics = new ConcurrentHashMap<>();
+
+	private boolean guiceProvisions;
+
+	private boolean jmxEnabled = true;
+
+	private String contextId;
+
+	private ObjectName objectName;
+
+	/**
+	 * Flag to say that all provisions made by the Guice injector should be timed (not
+	 * only the ones that cross the bridge). Default false.
+	 * @param guiceProvisions the flag value
+	 */
+	public void setGuiceProvisions(boolean guiceProvisions) {
+		this.guiceProvisions = guiceProvisions;
+	}
+
+	public boolean isGuiceProvisions() {
+		return this.guiceProvisions;
+	}
+
+	/**
+	 * Flag to say that the statistics should be registered as a platform MBean. Default
+	 * true.
+	 * @param jmxEnabled the flag value
+	 */
+	public void setJmxEnabled(boolean jmxEnabled) {
+		this.jmxEnabled = jmxEnabled;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.contextId = applicationContext.getId();
+	}
+
+	/**
+	 * The statistics for provisions of a key through one part of the bridge, created if
+	 * necessary. Callers can keep the result and {@link ProvisionStatistics#record(long)
+	 * record} directly.
+	 * @param origin the origin of the provisions, e.g. {@link #SPRING_BEAN}
+	 * @param key a description of the key
+	 * @return the statistics
+	 */
+	public ProvisionStatistics getStatistics(String origin, String key) {
+		return this.statistics.computeIfAbsent(origin + " " + key, (name) -> new ProvisionStatistics(origin, key));
+	}
+
+	/**
+	 * All the statistics, ordered by total provision time (most expensive first).
+	 * @return the statistics
+	 */
+	public List<ProvisionStatistics> getAllStatistics() {
+		List<ProvisionStatistics> result = new ArrayList<>(this.statistics.values());
+		result.sort(Comparator.comparingLong(ProvisionStatistics::getTotalNanos).reversed());
+		return result;
+	}
+
+	/**
+	 * A listener that times every provision made by a Guice injector.
+	 * @return a provision listener
+	 */
+	public ProvisionListener getProvisionListener() {
+		return new ProvisionListener() {
+			@Override
+			public <T> void onProvision(ProvisionInvocation<T> provision) {
+				Key<T> key = provision.getBinding().getKey();
+				ProvisionStatistics statistics = ProvisionMetrics.this.guiceStatistics.get(key);
+				if (statistics == null) {
+					statistics = ProvisionMetrics.this.guiceStatistics.computeIfAbsent(key,
+							(k) -> getStatistics(GUICE_PROVISION, k.toString()));
+				}
+				long start = System.nanoTime();
+				try {
+					provision.provision();
+				}
+				finally {
+					statistics.record(System.nanoTime() - start);
+				}
+			}
+		};
+	}
+
+	@Override
+	public long getProvisionCount() {
+		long count = 0;
+		for (ProvisionStatistics statistics : this.statistics.values()) {
+			count += statistics.getCount();
+		}
+		return count;
+	}
+
+	@Override
+	public int getKeyCount() {
+		return this.statistics.size();
+	}
+
+	@Override
+	public String[] getStatistics() {
+		return getAllStatistics().stream().map(ProvisionStatistics::toString).toArray(String[]::new);
+	}
+
+	@Override
+	public void reset() {
+		this.statistics.values().forEach(ProvisionStatistics::reset);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (!this.jmxEnabled) {
+			return;
+		}
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName("org.springframework.guice:type=ProvisionMetrics,context="
+					+ ObjectName.quote((this.contextId != null) ? this.contextId : ObjectUtils.identityToString(this)));
+			if (!server.isRegistered(name)) {
+				server.registerMBean(this, name);
+				this.objectName = name;
+			}
+		}
+		catch (JMException ex) {
+			throw new IllegalStateException("Could not register provision metrics MBean", ex);
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		if (this.objectName != null) {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+			this.objectName = null;
+		}
+	}
+
+}
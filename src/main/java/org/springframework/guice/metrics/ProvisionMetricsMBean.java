@@ -0,0 +1,50 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+/**
+ * JMX view of {@link ProvisionMetrics}.
+ *
+ * @author Dave Syer
+ */
+public interface ProvisionMetricsMBean {
+
+	/**
+	 * The total number of provisions recorded.
+	 * @return the count
+	 */
+	long getProvisionCount();
+
+	/**
+	 * The number of keys with recorded provisions.
+	 * @return the number of keys
+	 */
+	int getKeyCount();
+
+	/**
+	 * One line per key, with the count, total, mean, percentiles and maximum of the
+	 * provision times, ordered by total time (most expensive first).
+	 * @return the statistics
+	 */
+	String[] getStatistics();
+
+	/**
+	 * Clear all the recorded provisions.
+	 */
+	void reset();
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count, total time and latency histogram of the provisions of one key. Recording is
+ * lock-free: the counters are striped and the histogram has one bucket per power of two
+ * nanoseconds, so percentiles are accurate to within a factor of two.
+ *
+ * @author Dave Syer
+ */
+public final class ProvisionStatistics {
+
+	private static final int BUCKETS = 64;
+
+	private final String origin;
+
+	private final String key;
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	ProvisionStatistics(String origin, String key) {
+		this.origin = origin;
+		this.key = key;
+	}
+
+	/**
+	 * Record one provision.
+	 * @param nanos the time it took in nanoseconds
+	 */
+	public void record(long nanos) {
+		this.count.increment();
+		this.totalNanos.add(nanos);
+		this.maxNanos.accumulate(nanos);
+		this.buckets.incrementAndGet((nanos > 0) ? BUCKETS - Long.numberOfLeadingZeros(nanos) : 0);
+	}
+
+	/**
+	 * The part of the bridge the provisions went through, e.g.
+	 * {@link ProvisionMetrics#SPRING_BEAN}.
+	 * @return the origin
+	 */
+	public String getOrigin() {
+		return this.origin;
+	}
+
+	/**
+	 * A description of the key (or type) that was provided.
+	 * @return the key
+	 */
+	public String getKey() {
+		return this.key;
+	}
+
+	/**
+	 * The number of provisions.
+	 * @return the count
+	 */
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	/**
+	 * The total time spent in provisions.
+	 * @return the total time in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return this.totalNanos.sum();
+	}
+
+	/**
+	 * The mean time of a provision.
+	 * @return the mean time in nanoseconds
+	 */
+	public long getMeanNanos() {
+		long count = getCount();
+		return (count > 0) ? getTotalNanos() / count : 0;
+	}
+
+	/**
+	 * The longest time of a provision.
+	 * @return the maximum time in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return this.maxNanos.get();
+	}
+
+	/**
+	 * An upper bound for the given percentile of provision times, accurate to within a
+	 * factor of two.
+	 * @param percentile the percentile (between 0 and 1)
+	 * @return the time in nanoseconds
+	 */
+	public long getPercentileNanos(double percentile) {
+		long[] buckets = getBuckets();
+		long total = 0;
+		for (long bucket : buckets) {
+			total += bucket;
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long threshold = (long) Math.ceil(percentile * total);
+		long cumulative = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			cumulative += buckets[i];
+			if (cumulative >= Math.max(threshold, 1)) {
+				return (i == 0) ? 0 : Math.min((i < BUCKETS - 1) ? 1L << i : Long.MAX_VALUE, getMaxNanos());
+			}
+		}
+		return getMaxNanos();
+	}
+
+	/**
+	 * A snapshot of the histogram. Bucket <code>i</code> counts provisions that took
+	 * between <code>2^(i-1)</code> (inclusive) and <code>2^i</code> (exclusive)
+	 * nanoseconds, and bucket 0 the ones that took no measurable time.
+	 * @return the bucket counts
+	 */
+	public long[] getBuckets() {
+		long[] result = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			result[i] = this.buckets.get(i);
+		}
+		return result;
+	}
+
+	void reset() {
+		this.count.reset();
+		this.totalNanos.reset();
+		this.maxNanos.reset();
+		for (int i = 0; i < BUCKETS; i++) {
+			this.buckets.set(i, 0);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s %s count=%d total=%.3fms mean=%.3fms p50<=%.3fms p99<=%.3fms max=%.3fms", this.origin,
+				this.key, getCount(), millis(getTotalNanos()), millis(getMeanNanos()), millis(getPercentileNanos(0.5)),
+				millis(getPercentileNanos(0.99)), millis(getMaxNanos()));
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One provision in a chain recorded by a {@link ProvisionTracer}, with the nested
+ * provisions it triggered.
+ *
+ * @author Dave Syer
+ */
+public final class ProvisionTrace {
+
+	private final String origin;
+
+	private final String name;
+
+	private final ProvisionTrace parent;
+
+	private final List<ProvisionTrace> children = new ArrayList<>();
+
+	private final long startNanos;
+
+	private long endNanos;
+
+	ProvisionTrace(String origin, String name, ProvisionTrace parent) {
+		this.origin = origin;
+		this.name = name;
+		this.parent = parent;
+		this.startNanos = System.nanoTime();
+		if (parent != null) {
+			parent.children.add(this);
+		}
+	}
+
+	void end(long nanos) {
+		if (this.endNanos == 0) {
+			this.endNanos = nanos;
+		}
+	}
+
+	boolean isEnded() {
+		return this.endNanos != 0;
+	}
+
+	ProvisionTrace getParent() {
+		return this.parent;
+	}
+
+	/**
+	 * The part of the bridge (or container) that made the provision, e.g.
+	 * {@link ProvisionTracer#GUICE}.
+	 * @return the origin
+	 */
+	public String getOrigin() {
+		return this.origin;
+	}
+
+	/**
+	 * The key or bean name that was provided.
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * The provisions triggered by this one.
+	 * @return the nested provisions
+	 */
+	public List<ProvisionTrace> getChildren() {
+		return Collections.unmodifiableList(this.children);
+	}
+
+	/**
+	 * The time spent in this provision, including the nested ones.
+	 * @return the total time in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return this.endNanos - this.startNanos;
+	}
+
+	/**
+	 * The time spent in this provision, excluding the nested ones.
+	 * @return the self time in nanoseconds
+	 */
+	public long getSelfNanos() {
+		long self = getTotalNanos();
+		for (ProvisionTrace child : this.children) {
+			self -= child.getTotalNanos();
+		}
+		return self;
+	}
+
+	void print(StringBuilder builder, int depth) {
+		builder.append(String.format("%10.3f ms %10.3f ms  %s[%s] %s%n", this.getTotalNanos() / 1_000_000.0,
+				this.getSelfNanos() / 1_000_000.0, "  ".repeat(depth), this.origin, this.name));
+		for (ProvisionTrace child : this.children) {
+			child.print(builder, depth + 1);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		print(builder, 0);
+		return builder.toString();
+	}
+
+}
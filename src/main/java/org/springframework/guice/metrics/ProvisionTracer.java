@@ -0,0 +1,291 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import com.google.inject.spi.ProvisionListener;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * Records chains of nested provisions across Spring and Guice (a Guice binding that needs
+ * a Spring bean that needs a Guice binding, and so on) as trees with self and total
+ * times, and keeps the slowest ones. Declare one of these as a (static)
+ * <code>@Bean</code> to switch it on:
+ *
+ * <pre class="code">
+ * &#064;Bean
+ * public static ProvisionTracer provisionTracer() {
+ * 	return new ProvisionTracer();
+ * }
+ * </pre>
+ *
+ * Every chain is traced until the application context is refreshed, and then the slowest
+ * ones are logged. After that only a {@link #setSampleRate(double) sample} of chains is
+ * traced (none by default), unless {@link #trace(String, Supplier)} is used to trace a
+ * unit of work explicitly.
+ *
+ * @author Dave Syer
+ */
+public class ProvisionTracer implements ProvisionListener, InstantiationAwareBeanPostProcessor,
+		ApplicationListener<ContextRefreshedEvent>, ApplicationContextAware {
+
+	/**
+	 * Origin of provisions made by the Guice injector.
+	 */
+	public static final String GUICE = "guice";
+
+	/**
+	 * Origin of Spring bean creation.
+	 */
+	public static final String SPRING = "spring";
+
+	/**
+	 * Origin of Spring beans looked up for Guice.
+	 */
+	public static final String SPRING_BEAN = "spring-bean";
+
+	/**
+	 * Origin of Guice bindings looked up as Spring beans.
+	 */
+	public static final String GUICE_BEAN = "guice-bean";
+
+	/**
+	 * Origin of lazy proxies resolving their target.
+	 */
+	public static final String LAZY_PROXY = "lazy-proxy";
+
+	private static final Log logger = LogFactory.getLog(ProvisionTracer.class);
+
+	private final ThreadLocal<ProvisionTrace> current = new ThreadLocal<>();
+
+	private final PriorityQueue<ProvisionTrace> slowest = new PriorityQueue<>(
+			Comparator.comparingLong(ProvisionTrace::getTotalNanos));
+
+	private volatile boolean startup = true;
+
+	private double sampleRate;
+
+	private int maxChains = 10;
+
+	private ApplicationContext applicationContext;
+
+	/**
+	 * The fraction of chains to trace after startup. Default 0.
+	 * @param sampleRate the sample rate (between 0 and 1)
+	 */
+	public void setSampleRate(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * The number of (slowest) chains to keep. Default 10.
+	 * @param maxChains the number of chains
+	 */
+	public void setMaxChains(int maxChains) {
+		this.maxChains = maxChains;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Start a provision, nested in the current one on this thread if there is one.
+	 * @param origin the part of the bridge making the provision
+	 * @param name the key or bean name
+	 * @return the trace to {@link #end(ProvisionTrace) end}, or null if this chain is not
+	 * traced
+	 */
+	public ProvisionTrace start(String origin, String name) {
+		ProvisionTrace parent = this.current.get();
+		if (parent == null && !sample()) {
+			return null;
+		}
+		ProvisionTrace trace = new ProvisionTrace(origin, name, parent);
+		this.current.set(trace);
+		return trace;
+	}
+
+	/**
+	 * End a provision started with {@link #start(String, String)} (and any nested ones
+	 * that did not end).
+	 * @param trace the trace (may be null)
+	 */
+	public void end(ProvisionTrace trace) {
+		if (trace == null) {
+			return;
+		}
+		close(trace);
+		if (trace.getParent() == null) {
+			complete(trace);
+		}
+	}
+
+	/**
+	 * Trace a unit of work (e.g. a request) and all the provisions it makes.
+	 * @param <T> the result type
+	 * @param name a name for the work
+	 * @param work the work
+	 * @return the result of the work
+	 */
+	public <T> T trace(String name, Supplier<T> work) {
+		ProvisionTrace parent = this.current.get();
+		ProvisionTrace trace = new ProvisionTrace("trace", name, parent);
+		this.current.set(trace);
+		try {
+			return work.get();
+		}
+		finally {
+			end(trace);
+		}
+	}
+
+	/**
+	 * The slowest chains traced so far, slowest first.
+	 * @return the chains
+	 */
+	public List<ProvisionTrace> getSlowestChains() {
+		List<ProvisionTrace> result;
+		synchronized (this.slowest) {
+			result = new ArrayList<>(this.slowest);
+		}
+		result.sort(Comparator.comparingLong(ProvisionTrace::getTotalNanos).reversed());
+		return result;
+	}
+
+	/**
+	 * A report of the slowest chains, with total and self times for each provision.
+	 * @return the report
+	 */
+	public String report() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format("Slowest provision chains:%n%13s %13s  %s%n", "total", "self", "provision"));
+		for (ProvisionTrace trace : getSlowestChains()) {
+			trace.print(builder, 0);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Forget the chains traced so far.
+	 */
+	public void reset() {
+		synchronized (this.slowest) {
+			this.slowest.clear();
+		}
+	}
+
+	@Override
+	public <T> void onProvision(ProvisionInvocation<T> provision) {
+		ProvisionTrace trace = start(GUICE, provision.getBinding().getKey().toString());
+		try {
+			provision.provision();
+		}
+		finally {
+			end(trace);
+		}
+	}
+
+	@Override
+	public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+		// A bean that is still open was only instantiated to check its type, or its
+		// creation failed, so its span is closed (and not kept if it is a root)
+		ProvisionTrace stale = findOpen(beanName);
+		if (stale != null) {
+			close(stale);
+		}
+		start(SPRING, beanName);
+		return null;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		// Nested beans that are still open (type checks, failed creations) are closed too
+		ProvisionTrace trace = findOpen(beanName);
+		if (trace != null) {
+			end(trace);
+		}
+		return bean;
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (event.getApplicationContext() != this.applicationContext || !this.startup) {
+			return;
+		}
+		// Anything still open on the thread that refreshed the context never finished, so
+		// it is closed but not kept
+		ProvisionTrace open = this.current.get();
+		while (open != null && open.getParent() != null) {
+			open = open.getParent();
+		}
+		if (open != null) {
+			close(open);
+		}
+		this.startup = false;
+		if (logger.isInfoEnabled() && !getSlowestChains().isEmpty()) {
+			logger.info(report());
+		}
+	}
+
+	private ProvisionTrace findOpen(String beanName) {
+		for (ProvisionTrace trace = this.current.get(); trace != null; trace = trace.getParent()) {
+			if (SPRING.equals(trace.getOrigin()) && trace.getName().equals(beanName) && !trace.isEnded()) {
+				return trace;
+			}
+		}
+		return null;
+	}
+
+	private void close(ProvisionTrace trace) {
+		long now = System.nanoTime();
+		for (ProvisionTrace open = this.current.get(); open != null && open != trace; open = open.getParent()) {
+			open.end(now);
+		}
+		trace.end(now);
+		this.current.set(trace.getParent());
+	}
+
+	private boolean sample() {
+		return this.startup || (this.sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < this.sampleRate);
+	}
+
+	private void complete(ProvisionTrace trace) {
+		synchronized (this.slowest) {
+			this.slowest.add(trace);
+			while (this.slowest.size() > this.maxChains) {
+				this.slowest.poll();
+			}
+		}
+	}
+
+}
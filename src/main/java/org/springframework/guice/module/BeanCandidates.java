@@ -0,0 +1,76 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The types that a Spring bean is a candidate to be bound to in Guice: its own type and
+ * its supertypes (within the budget), nearest first. They only depend on the bean
+ * definition and the classpath, so they can be cached across restarts.
+ *
+ * @author Dave Syer
+ */
+final class BeanCandidates {
+
+	/**
+	 * Marker for a bean whose type cannot be determined.
+	 */
+	static final BeanCandidates NONE = new BeanCandidates(null, 0);
+
+	private final Type type;
+
+	private final List<Type> types = new ArrayList<>();
+
+	private final List<Boolean> ownTypes = new ArrayList<>();
+
+	// The number of supertypes if it is over the budget
+	private final int superTypes;
+
+	BeanCandidates(Type type, int superTypes) {
+		this.type = type;
+		this.superTypes = superTypes;
+	}
+
+	void add(Type type, boolean ownType) {
+		this.types.add(type);
+		this.ownTypes.add(ownType);
+	}
+
+	Type getType() {
+		return this.type;
+	}
+
+	int getSuperTypes() {
+		return this.superTypes;
+	}
+
+	int size() {
+		return this.types.size();
+	}
+
+	Type getType(int index) {
+		return this.types.get(index);
+	}
+
+	boolean isOwnType(int index) {
+		return this.ownTypes.get(index);
+	}
+
+}
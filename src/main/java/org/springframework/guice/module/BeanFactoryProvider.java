@@ -23,7 +23,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import com.google.inject.spi.ProvisionListener;
 import jakarta.inject.Provider;
 
 import org.springframework.beans.BeansException;
@@ -49,6 +48,14 @@ import org.springframework.core.OrderComparator;
  * register an {@link ApplicationContextInitializer} that sets a shutdown hook, so that
  * the context is closed automatically when the JVM ends.
  * </p>
+ * <p>
+ * The context is refreshed while the Guice injector is created. With
+ * {@link #backgroundRefresh(boolean) background refresh} it is refreshed on its own
+ * thread instead, so that creating the injector does not wait for it, and Guice
+ * provisions of Spring beans block only until it is done. This is only safe if no Spring
+ * bean depends on a Guice singleton that itself depends on Spring beans, because the
+ * refresh could then wait for a singleton that is waiting for the refresh.
+ * </p>
  *
  * @author Dave Syer
  *
@@ -62,7 +69,9 @@ public class BeanFactoryProvider implements Provider<ConfigurableListableBeanFac
 
 	private List<ApplicationContextInitializer<ConfigurableApplicationContext>> initializers = new ArrayList<ApplicationContextInitializer<ConfigurableApplicationContext>>();
 
-	private PartiallyRefreshableApplicationContext context;
+	private boolean backgroundRefresh;
+
+	private volatile PartiallyRefreshableApplicationContext context;
 
 	/**
 	 * Create an application context by scanning these base packages.
@@ -89,6 +98,17 @@ public class BeanFactoryProvider implements Provider<ConfigurableListableBeanFac
 		return this;
 	}
 
+	/**
+	 * Refresh the application context on a background thread once the Guice injector is
+	 * ready, instead of while the injector is created.
+	 * @param backgroundRefresh whether to refresh in the background
+	 * @return this provider
+	 */
+	public BeanFactoryProvider backgroundRefresh(boolean backgroundRefresh) {
+		this.backgroundRefresh = backgroundRefresh;
+		return this;
+	}
+
 	private BeanFactoryProvider(Class<?>[] config, String[] basePackages) {
 		this.config = config;
 		this.basePackages = basePackages;
@@ -99,6 +119,7 @@ public class BeanFactoryProvider implements Provider<ConfigurableListableBeanFac
 		if (this.context != null) {
 			synchronized (this) {
 				if (this.context != null) {
+					this.context.awaitRefresh();
 					this.context.close();
 					this.context = null;
 				}
@@ -118,7 +139,7 @@ public class BeanFactoryProvider implements Provider<ConfigurableListableBeanFac
 					if (this.basePackages != null && this.basePackages.length > 0) {
 						context.scan(this.basePackages);
 					}
-					context.partialRefresh();
+					context.partialRefresh(this.backgroundRefresh);
 					if (this.initializers != null && !this.initializers.isEmpty()) {
 						OrderComparator.sort(this.initializers);
 						for (ApplicationContextInitializer<ConfigurableApplicationContext> initializer : this.initializers) {
@@ -136,13 +157,16 @@ public class BeanFactoryProvider implements Provider<ConfigurableListableBeanFac
 
 		private final AtomicBoolean partiallyRefreshed = new AtomicBoolean(false);
 
+		private ContextRefresher refresher;
+
 		/*
 		 * Initializes beanFactoryPostProcessors only to ensure that all BeanDefinition's
 		 * are available
 		 */
-		private void partialRefresh() {
+		private void partialRefresh(boolean background) {
 			ConfigurableListableBeanFactory beanFactory = getBeanFactory();
-			beanFactory.registerSingleton("refreshListener", new ContextRefreshingProvisionListener(this));
+			this.refresher = new ContextRefresher(this, this::delayedRefresh, background);
+			beanFactory.registerSingleton("contextRefresher", this.refresher);
 			prepareBeanFactory(beanFactory);
 			invokeBeanFactoryPostProcessors(beanFactory);
 		}
@@ -151,6 +175,11 @@ public class BeanFactoryProvider implements Provider<ConfigurableListableBeanFac
 			super.refresh();
 		}
 
+		private void awaitRefresh() {
+			// The context is closed anyway, whether the refresh succeeded or not
+			this.refresher.awaitStarted();
+		}
+
 		@Override
 		public void refresh() {
 		}
@@ -164,24 +193,4 @@ public class BeanFactoryProvider implements Provider<ConfigurableListableBeanFac
 
 	}
 
-	private static final class ContextRefreshingProvisionListener implements ProvisionListener {
-
-		private final PartiallyRefreshableApplicationContext context;
-
-		private final AtomicBoolean initialized = new AtomicBoolean(false);
-
-		private ContextRefreshingProvisionListener(PartiallyRefreshableApplicationContext context) {
-			this.context = context;
-		}
-
-		@Override
-		public <T> void onProvision(ProvisionInvocation<T> provision) {
-			if (!this.initialized.getAndSet(true) && !this.context.isActive()) {
-				this.context.delayedRefresh();
-			}
-			provision.provision();
-		}
-
-	}
-
 }
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+import com.google.inject.util.Types;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A file that keeps the {@link BeanCandidates} of a {@link SpringModule} across restarts,
+ * so that an unchanged application does not have to work them out again. The file is only
+ * used if its fingerprint, computed from the classpath (sizes and modification times of
+ * the jars and of the files in directories) and the bean definitions, matches. Otherwise
+ * it is rewritten.
+ *
+ * @author Dave Syer
+ */
+final class BindingPlanCache {
+
+	private static final Log logger = LogFactory.getLog(BindingPlanCache.class);
+
+	private static final int MAGIC = 0x53474250;
+
+	private static final int VERSION = 2;
+
+	private static final byte CLASS = 0;
+
+	private static final byte PARAMETERIZED = 1;
+
+	private static final byte ARRAY = 2;
+
+	private static final byte WILDCARD = 3;
+
+	private static final byte NONE = 4;
+
+	/**
+	 * The shared candidates by shape for each class loader. The class loader is only
+	 * weakly reachable from here, and so are the candidates, because they refer to
+	 * classes that it loaded: they are kept by the modules that use them, so an
+	 * application class loader can go away as soon as its contexts are closed.
+	 */
+	private static final Map<ClassLoader, Map<String, Reference<Map<String, BeanCandidates>>>> shared = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private final Path file;
+
+	BindingPlanCache(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Compute the fingerprint of the classpath and bean definitions.
+	 * @param shape the shape of the bean definitions
+	 * @return the fingerprint
+	 */
+	String fingerprint(String shape) {
+		MessageDigest digest = digest();
+		update(digest, shape);
+		for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+			File path = new File(entry);
+			update(digest, entry);
+			if (path.isDirectory()) {
+				// A directory's own size and time do not change when a class in it does
+				updateDirectory(digest, path.toPath());
+			}
+			else {
+				update(digest, path.length());
+				update(digest, path.lastModified());
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void updateDirectory(MessageDigest digest, Path directory) {
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.filter(Files::isRegularFile).sorted().forEach((file) -> {
+				File path = file.toFile();
+				update(digest, directory.relativize(file));
+				update(digest, path.length());
+				update(digest, path.lastModified());
+			});
+		}
+		catch (IOException | UncheckedIOException ex) {
+			// Never match a fingerprint that could not be computed
+			logger.debug("Could not read classpath directory " + directory, ex);
+			update(digest, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Compute the shape of the bean definitions: a digest of their names, classes and the
+	 * other metadata that the types of the beans depend on.
+	 * @param beanFactory the bean factory
+	 * @param names the bean definition names
+	 * @param settings any other settings that affect the candidates
+	 * @return the shape
+	 */
+	static String shape(ConfigurableListableBeanFactory beanFactory, String[] names, Object... settings) {
+		MessageDigest digest = digest();
+		update(digest, VERSION);
+		for (Object setting : settings) {
+			update(digest, setting);
+		}
+		for (String name : names) {
+			BeanDefinition definition = beanFactory.getBeanDefinition(name);
+			update(digest, name);
+			update(digest, definition.getBeanClassName());
+			update(digest, definition.getFactoryBeanName());
+			update(digest, definition.getFactoryMethodName());
+			update(digest, definition.getResolvableType());
+			update(digest, definition.getRole());
+			update(digest, definition.isAutowireCandidate());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * The candidates shared by bean factories with the same shape, if any.
+	 * @param shape the shape of the bean definitions
+	 * @param classLoader the class loader of the bean factory
+	 * @return the candidates by bean name, or null if there are none
+	 */
+	static Map<String, BeanCandidates> getShared(String shape, ClassLoader classLoader) {
+		synchronized (shared) {
+			Map<String, Reference<Map<String, BeanCandidates>>> shapes = shared.get(classLoader);
+			Reference<Map<String, BeanCandidates>> reference = (shapes != null) ? shapes.get(shape) : null;
+			return (reference != null) ? reference.get() : null;
+		}
+	}
+
+	/**
+	 * Share the candidates with other bean factories with the same shape. They are only
+	 * shared for as long as the caller (or another module that shares them) keeps a
+	 * reference to the result.
+	 * @param shape the shape of the bean definitions
+	 * @param classLoader the class loader of the bean factory
+	 * @param candidates the candidates by bean name
+	 * @return the shared candidates by bean name
+	 */
+	static Map<String, BeanCandidates> share(String shape, ClassLoader classLoader,
+			Map<String, BeanCandidates> candidates) {
+		synchronized (shared) {
+			Map<String, Reference<Map<String, BeanCandidates>>> shapes = shared.computeIfAbsent(classLoader,
+					(key) -> new HashMap<>());
+			shapes.values().removeIf((reference) -> reference.get() == null);
+			Reference<Map<String, BeanCandidates>> reference = shapes.get(shape);
+			Map<String, BeanCandidates> existing = (reference != null) ? reference.get() : null;
+			if (existing != null) {
+				return existing;
+			}
+			Map<String, BeanCandidates> result = Collections.unmodifiableMap(candidates);
+			shapes.put(shape, new WeakReference<>(result));
+			return result;
+		}
+	}
+
+	private static MessageDigest digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void update(MessageDigest digest, Object value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Load the candidates if the file exists and has the same fingerprint.
+	 * @param fingerprint the expected fingerprint
+	 * @param classLoader the class loader for the types
+	 * @return the candidates by bean name, or null if there are none
+	 */
+	Map<String, BeanCandidates> load(String fingerprint, ClassLoader classLoader) {
+		if (!Files.isReadable(this.file)) {
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION || !input.readUTF().equals(fingerprint)) {
+				logger.info("Binding plan cache " + this.file + " is out of date");
+				return null;
+			}
+			int count = input.readInt();
+			Map<String, BeanCandidates> result = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				String name = input.readUTF();
+				Type type = readType(input, classLoader);
+				if (type == null) {
+					result.put(name, BeanCandidates.NONE);
+					continue;
+				}
+				BeanCandidates candidates = new BeanCandidates(type, input.readInt());
+				int size = input.readInt();
+				for (int j = 0; j < size; j++) {
+					candidates.add(readType(input, classLoader), input.readBoolean());
+				}
+				result.put(name, candidates);
+			}
+			return result;
+		}
+		catch (IOException | ClassNotFoundException | RuntimeException ex) {
+			logger.warn("Could not read binding plan cache " + this.file, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Write the candidates with the fingerprint. Candidates with types that cannot be
+	 * written (e.g. type variables) are left out and worked out again on the next start.
+	 * @param fingerprint the fingerprint
+	 * @param candidates the candidates by bean name
+	 */
+	void save(String fingerprint, Map<String, BeanCandidates> candidates) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			int count = 0;
+			try (DataOutputStream output = new DataOutputStream(bytes)) {
+				for (Map.Entry<String, BeanCandidates> entry : candidates.entrySet()) {
+					if (canWrite(entry.getValue())) {
+						write(output, entry.getKey(), entry.getValue());
+						count++;
+					}
+				}
+			}
+			Path parent = this.file.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Path temp = Files.createTempFile((parent != null) ? parent : Path.of("."), "bindings", ".tmp");
+			try (DataOutputStream output = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeUTF(fingerprint);
+				output.writeInt(count);
+				bytes.writeTo(output);
+			}
+			Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex) {
+			logger.warn("Could not write binding plan cache " + this.file, ex);
+		}
+	}
+
+	private static boolean canWrite(BeanCandidates candidates) {
+		if (candidates == BeanCandidates.NONE) {
+			return true;
+		}
+		if (!canWrite(candidates.getType())) {
+			return false;
+		}
+		for (int i = 0; i < candidates.size(); i++) {
+			if (!canWrite(candidates.getType(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean canWrite(Type type) {
+		if (type instanceof Class) {
+			return true;
+		}
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterized = (ParameterizedType) type;
+			if (parameterized.getOwnerType() != null && !canWrite(parameterized.getOwnerType())) {
+				return false;
+			}
+			for (Type argument : parameterized.getActualTypeArguments()) {
+				if (!canWrite(argument)) {
+					return false;
+				}
+			}
+			return canWrite(parameterized.getRawType());
+		}
+		if (type instanceof GenericArrayType) {
+			return canWrite(((GenericArrayType) type).getGenericComponentType());
+		}
+		if (type instanceof WildcardType) {
+			WildcardType wildcard = (WildcardType) type;
+			return wildcard.getUpperBounds().length == 1 && canWrite(wildcard.getUpperBounds()[0])
+					&& wildcard.getLowerBounds().length <= 1
+					&& (wildcard.getLowerBounds().length == 0 || canWrite(wildcard.getLowerBounds()[0]));
+		}
+		return false;
+	}
+
+	private static void write(DataOutputStream output, String name, BeanCandidates candidates) throws IOException {
+		output.writeUTF(name);
+		writeType(output, candidates.getType());
+		if (candidates == BeanCandidates.NONE) {
+			return;
+		}
+		output.writeInt(candidates.getSuperTypes());
+		output.writeInt(candidates.size());
+		for (int i = 0; i < candidates.size(); i++) {
+			writeType(output, candidates.getType(i));
+			output.writeBoolean(candidates.isOwnType(i));
+		}
+	}
+
+	private static void writeType(DataOutputStream output, Type type) throws IOException {
+		if (type == null) {
+			output.writeByte(NONE);
+		}
+		else if (type instanceof Class) {
+			output.writeByte(CLASS);
+			output.writeUTF(((Class<?>) type).getName());
+		}
+		else if (type instanceof ParameterizedType) {
+			ParameterizedType parameterized = (ParameterizedType) type;
+			output.writeByte(PARAMETERIZED);
+			writeType(output, parameterized.getOwnerType());
+			writeType(output, parameterized.getRawType());
+			output.writeInt(parameterized.getActualTypeArguments().length);
+			for (Type argument : parameterized.getActualTypeArguments()) {
+				writeType(output, argument);
+			}
+		}
+		else if (type instanceof GenericArrayType) {
+			output.writeByte(ARRAY);
+			writeType(output, ((GenericArrayType) type).getGenericComponentType());
+		}
+		else {
+			WildcardType wildcard = (WildcardType) type;
+			output.writeByte(WILDCARD);
+			writeType(output, wildcard.getUpperBounds()[0]);
+			writeType(output, (wildcard.getLowerBounds().length > 0) ? wildcard.getLowerBounds()[0] : null);
+		}
+	}
+
+	private static Type readType(DataInputStream input, ClassLoader classLoader)
+			throws IOException, ClassNotFoundException {
+		byte tag = input.readByte();
+		switch (tag) {
+		case NONE:
+			return null;
+		case CLASS:
+			return ClassUtils.forName(input.readUTF(), classLoader);
+		case PARAMETERIZED:
+			Type owner = readType(input, classLoader);
+			Type raw = readType(input, classLoader);
+			Type[] arguments = new Type[input.readInt()];
+			for (int i = 0; i < arguments.length; i++) {
+				arguments[i] = readType(input, classLoader);
+			}
+			return Types.newParameterizedTypeWithOwner(owner, raw, arguments);
+		case ARRAY:
+			return Types.arrayOf(readType(input, classLoader));
+		case WILDCARD:
+			Type upper = readType(input, classLoader);
+			Type lower = readType(input, classLoader);
+			return (lower != null) ? Types.supertypeOf(lower) : Types.subtypeOf(upper);
+		default:
+			throw new IOException("Unknown type tag " + tag);
+		}
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the Guice bindings that a {@link SpringModule} generates for each Spring bean
+ * and for each bound type, so that the beans and types responsible for most of them can
+ * be reported.
+ *
+ * @author Dave Syer
+ */
+final class BindingReport {
+
+	private static final int TOP = 20;
+
+	private final Map<String, Integer> beans = new HashMap<>();
+
+	private final Map<String, Integer> types = new HashMap<>();
+
+	private int bindings;
+
+	private int truncatedBeans;
+
+	private int droppedTypes;
+
+	void add(String bean, String type, int bindings) {
+		if (bindings > 0) {
+			this.beans.merge(bean, bindings, Integer::sum);
+			this.types.merge(type, bindings, Integer::sum);
+			this.bindings += bindings;
+		}
+	}
+
+	void truncated(int dropped) {
+		this.truncatedBeans++;
+		this.droppedTypes += dropped;
+	}
+
+	List<Map.Entry<String, Integer>> getTopBeans() {
+		return top(this.beans);
+	}
+
+	List<Map.Entry<String, Integer>> getTopTypes() {
+		return top(this.types);
+	}
+
+	int getBindings() {
+		return this.bindings;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(String.format("Guice bindings from Spring beans: %d bindings for %d beans", this.bindings,
+				this.beans.size()));
+		if (this.truncatedBeans > 0) {
+			builder.append(String.format(", %d supertypes of %d beans dropped by the budget", this.droppedTypes,
+					this.truncatedBeans));
+		}
+		builder.append(System.lineSeparator());
+		builder.append(String.format("%9s  %s%n", "bindings", "bean"));
+		getTopBeans().forEach((entry) -> builder.append(String.format("%9d  %s%n", entry.getValue(), entry.getKey())));
+		builder.append(String.format("%9s  %s%n", "bindings", "type"));
+		getTopTypes().forEach((entry) -> builder.append(String.format("%9d  %s%n", entry.getValue(), entry.getKey())));
+		return builder.toString();
+	}
+
+	private static List<Map.Entry<String, Integer>> top(Map<String, Integer> counts) {
+		return counts.entrySet().stream().sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+				.thenComparing(Map.Entry.comparingByKey())).limit(TOP).collect(Collectors.toList());
+	}
+
+}
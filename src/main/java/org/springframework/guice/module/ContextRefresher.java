@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+
+import org.springframework.context.ApplicationContextException;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Refreshes a context from a {@link BeanFactoryProvider} before Guice gets any Spring
+ * bean from it. The providers that the {@link SpringModule} binds call
+ * {@link #ensureRefreshed()}, which costs one volatile read once the context is
+ * refreshed, so nothing is added to the provision chain of the bindings. The
+ * {@link SpringModule} also requests injection of this object, so that the refresh starts
+ * while the injector is created even if no Spring bean is needed by then.
+ * <p>
+ * In background mode the refresh runs on its own thread instead, and provisions of Spring
+ * beans wait for it only while it is still running.
+ *
+ * @author Dave Syer
+ */
+final class ContextRefresher {
+
+	private final ConfigurableApplicationContext context;
+
+	private final Runnable refresh;
+
+	private final boolean background;
+
+	private final AtomicBoolean started = new AtomicBoolean(false);
+
+	private final CompletableFuture<Void> refreshing = new CompletableFuture<>();
+
+	private volatile boolean refreshed;
+
+	private volatile Thread refreshThread;
+
+	ContextRefresher(ConfigurableApplicationContext context, Runnable refresh, boolean background) {
+		this.context = context;
+		this.refresh = refresh;
+		this.background = background;
+	}
+
+	/**
+	 * Start the refresh early, once the injector is ready to resolve dependencies.
+	 */
+	@Inject
+	void start() {
+		if (!this.started.compareAndSet(false, true)) {
+			return;
+		}
+		if (this.context.isActive()) {
+			this.refreshed = true;
+			this.refreshing.complete(null);
+		}
+		else if (this.background) {
+			new SimpleAsyncTaskExecutor("spring-guice-refresh-").execute(this::run);
+		}
+		else {
+			run();
+		}
+	}
+
+	/**
+	 * Make sure that the context is refreshed before a Spring bean is provided, starting
+	 * the refresh if needed and waiting for it if it is running on another thread. The
+	 * thread doing the refresh does not wait, because the refresh itself needs Spring
+	 * beans from Guice.
+	 */
+	void ensureRefreshed() {
+		if (this.refreshed || Thread.currentThread() == this.refreshThread) {
+			return;
+		}
+		start();
+		try {
+			this.refreshing.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+			throw new ApplicationContextException("Failed to refresh application context", ex.getCause());
+		}
+	}
+
+	/**
+	 * Wait for a refresh that has started to finish, successfully or not.
+	 */
+	void awaitStarted() {
+		if (this.started.get() && Thread.currentThread() != this.refreshThread) {
+			this.refreshing.handle((result, ex) -> null).join();
+		}
+	}
+
+	private void run() {
+		this.refreshThread = Thread.currentThread();
+		try {
+			this.refresh.run();
+			this.refreshed = true;
+			this.refreshing.complete(null);
+		}
+		catch (RuntimeException | Error ex) {
+			this.refreshing.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.refreshThread = null;
+		}
+	}
+
+}
@@ -36,6 +36,10 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+import org.springframework.guice.jfr.ProvisionEvent;
+import org.springframework.guice.metrics.GuiceBridgeStatistics;
+import org.springframework.guice.metrics.ProvisionTrace;
+import org.springframework.guice.metrics.ProvisionTracer;
 import org.springframework.util.Assert;
 
 /**
@@ -53,11 +57,23 @@ class GuiceAutowireCandidateResolver extends ContextAnnotationAutowireCandidateR
 
 	private final Log logger = LogFactory.getLog(getClass());
 
+	private ProvisionTracer tracer;
+
+	private GuiceBridgeStatistics statistics;
+
 	GuiceAutowireCandidateResolver(Provider<Injector> injectorProvider) {
 		this.injectorProvider = injectorProvider;
 		addQualifierType(BindingAnnotation.class);
 	}
 
+	void setProvisionTracer(ProvisionTracer tracer) {
+		this.tracer = tracer;
+	}
+
+	void setBridgeStatistics(GuiceBridgeStatistics statistics) {
+		this.statistics = statistics;
+	}
+
 	@Override
 	public Object getLazyResolutionProxyIfNecessary(DependencyDescriptor descriptor, String beanName) {
 		return (isLazy(descriptor, beanName) ? buildLazyResolutionProxy(descriptor, beanName) : null);
@@ -94,6 +110,9 @@ class GuiceAutowireCandidateResolver extends ContextAnnotationAutowireCandidateR
 		Assert.state(getBeanFactory() instanceof DefaultListableBeanFactory,
 				"BeanFactory needs to be a DefaultListableBeanFactory");
 		final DefaultListableBeanFactory beanFactory = (DefaultListableBeanFactory) getBeanFactory();
+		if (this.statistics != null) {
+			this.statistics.lazyProxyCreated();
+		}
 		TargetSource ts = new TargetSource() {
 			private Optional<Boolean> isGuiceResolvable = Optional.empty();
 
@@ -109,6 +128,33 @@ class GuiceAutowireCandidateResolver extends ContextAnnotationAutowireCandidateR
 
 			@Override
 			public Object getTarget() {
+				ProvisionEvent event = new ProvisionEvent();
+				event.begin();
+				boolean firstResolution = this.isGuiceResolvable.isEmpty();
+				if (GuiceAutowireCandidateResolver.this.statistics != null) {
+					GuiceAutowireCandidateResolver.this.statistics.provisioned();
+				}
+				ProvisionTracer tracer = GuiceAutowireCandidateResolver.this.tracer;
+				ProvisionTrace trace = (tracer != null)
+						? tracer.start(ProvisionTracer.LAZY_PROXY, descriptor.getResolvableType().toString()) : null;
+				try {
+					return resolveTarget();
+				}
+				finally {
+					if (tracer != null) {
+						tracer.end(trace);
+					}
+					event.end();
+					if (event.shouldCommit()) {
+						event.setOrigin(GuiceAutowireCandidateResolver.class.getSimpleName());
+						event.setKey(descriptor.getResolvableType().toString());
+						event.setFirstResolution(firstResolution);
+						event.commit();
+					}
+				}
+			}
+
+			private Object resolveTarget() {
 				Object target = null;
 				if (this.isGuiceResolvable.isPresent() && this.isGuiceResolvable.get()) {
 					target = targetGuiceObject();
@@ -131,7 +177,7 @@ class GuiceAutowireCandidateResolver extends ContextAnnotationAutowireCandidateR
 
 			private Object targetGuiceObject() {
 				Key<?> key = guiceInstanceResolverKey();
-				return GuiceAutowireCandidateResolver.this.injectorProvider.get().getInstance(key);
+				return getInjector().getInstance(key);
 			}
 
 			private Key<?> guiceInstanceResolverKey() {
@@ -173,6 +219,27 @@ class GuiceAutowireCandidateResolver extends ContextAnnotationAutowireCandidateR
 		return null;
 	}
 
+	private Injector getInjector() {
+		// Parallel injectors are only reachable through the composite that is registered
+		// once they are all created
+		Object composite = ((DefaultListableBeanFactory) getBeanFactory()).getSingleton("injector");
+		if (composite instanceof Injector) {
+			return (Injector) composite;
+		}
+		try {
+			return this.injectorProvider.get();
+		}
+		catch (IllegalStateException ex) {
+			// The injector may still be under construction in the background, in which
+			// case the bean factory holds a placeholder that waits for it
+			Injector injector = getBeanFactory().getBeanProvider(Injector.class).getIfAvailable();
+			if (injector == null) {
+				throw ex;
+			}
+			return injector;
+		}
+	}
+
 	private boolean isCollectionType(Class<?> type) {
 		return Collection.class.isAssignableFrom(type) || Map.class == type;
 	}
@@ -19,17 +19,20 @@ package org.springframework.guice.module;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Supplier;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Binder;
@@ -45,6 +48,8 @@ import com.google.inject.name.Names;
 import com.google.inject.spi.ProvisionListener;
 import com.google.inject.util.Types;
 import jakarta.inject.Provider;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.FactoryBean;
@@ -57,8 +62,16 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.MethodMetadata;
+import org.springframework.guice.jfr.ProvisionEvent;
+import org.springframework.guice.metrics.GuiceBridgeStatistics;
+import org.springframework.guice.metrics.ProvisionMetrics;
+import org.springframework.guice.metrics.ProvisionStatistics;
+import org.springframework.guice.metrics.ProvisionTrace;
+import org.springframework.guice.metrics.ProvisionTracer;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * A Guice module that wraps a Spring {@link ApplicationContext}.
@@ -73,6 +86,8 @@ public class SpringModule extends AbstractModule {
 	 */
 	public static final String SPRING_GUICE_SOURCE = "spring-guice";
 
+	private static final Log logger = LogFactory.getLog(SpringModule.class);
+
 	private BindingTypeMatcher matcher = new GuiceModuleMetadata();
 
 	private Map<StageTypeKey, Provider<?>> bound = new HashMap<StageTypeKey, Provider<?>>();
@@ -85,6 +100,36 @@ public class SpringModule extends AbstractModule {
 
 	private Provider<Injector> injector;
 
+	private ProvisionMetrics metrics;
+
+	private ProvisionTracer tracer;
+
+	private GuiceBridgeStatistics statistics;
+
+	private ContextRefresher refresher;
+
+	private int maxSuperTypesPerBean = -1;
+
+	private boolean failOnBindingBudget;
+
+	private boolean bindingReport;
+
+	private NamedBindings namedBindings = NamedBindings.ALL;
+
+	private boolean metadataOnlyTypes;
+
+	private boolean parallelPlanning;
+
+	private String planCache;
+
+	private boolean sharedPlan;
+
+	private Map<String, BeanCandidates> sharedCandidates;
+
+	private Map<String, BeanType> types = new ConcurrentHashMap<>();
+
+	private BindingReport report;
+
 	public SpringModule(ApplicationContext context) {
 		this(context, true);
 	}
@@ -111,83 +156,435 @@ public class SpringModule extends AbstractModule {
 		if (this.beanFactory == null) {
 			this.beanFactory = this.beanFactoryProvider.get();
 		}
-		this.injector = binder().getProvider(Injector.class);
-		if (this.beanFactory.getBeanNamesForType(ProvisionListener.class).length > 0) {
-			binder().bindListener(Matchers.any(), this.beanFactory.getBeansOfType(ProvisionListener.class).values()
-					.toArray(new ProvisionListener[0]));
-		}
-		if (this.enableJustInTimeBinding) {
-			if (this.beanFactory instanceof DefaultListableBeanFactory) {
-				((DefaultListableBeanFactory) this.beanFactory)
-						.setAutowireCandidateResolver(new GuiceAutowireCandidateResolver(this.injector));
+		StartupStep step = this.beanFactory.getApplicationStartup().start("spring.guice.module.configure").tag("stage",
+				binder().currentStage().name());
+		try {
+			this.injector = binder().getProvider(Injector.class);
+			this.statistics = GuiceBridgeStatistics.get(this.beanFactory);
+			// Factory beans are only instantiated to match their types if that is allowed
+			boolean allowEagerInit = !this.metadataOnlyTypes;
+			if (this.beanFactory.getBeanNamesForType(ProvisionListener.class, true, allowEagerInit).length > 0) {
+				binder().bindListener(Matchers.any(),
+						this.beanFactory.getBeansOfType(ProvisionListener.class, true, allowEagerInit).values()
+								.toArray(new ProvisionListener[0]));
+			}
+			// A context from a BeanFactoryProvider is refreshed before the providers
+			// below use it, and the injection request starts the refresh early
+			for (ContextRefresher refresher : this.beanFactory.getBeansOfType(ContextRefresher.class, false, false)
+					.values()) {
+				binder().requestInjection(refresher);
+				this.refresher = refresher;
+			}
+			this.metrics = findBean(ProvisionMetrics.class, allowEagerInit);
+			if (this.metrics != null && this.metrics.isGuiceProvisions()) {
+				binder().bindListener(Matchers.any(), this.metrics.getProvisionListener());
 			}
+			this.tracer = findBean(ProvisionTracer.class, allowEagerInit);
+			if (this.enableJustInTimeBinding) {
+				if (this.beanFactory instanceof DefaultListableBeanFactory) {
+					GuiceAutowireCandidateResolver resolver = new GuiceAutowireCandidateResolver(this.injector);
+					resolver.setProvisionTracer(this.tracer);
+					resolver.setBridgeStatistics(this.statistics);
+					((DefaultListableBeanFactory) this.beanFactory).setAutowireCandidateResolver(resolver);
+				}
+			}
+			if (this.beanFactory.getBeanNamesForType(GuiceModuleMetadata.class, true, allowEagerInit).length > 0) {
+				this.matcher = new CompositeTypeMatcher(
+						this.beanFactory.getBeansOfType(GuiceModuleMetadata.class, true, allowEagerInit).values());
+			}
+			bind(this.beanFactory);
 		}
-		if (this.beanFactory.getBeanNamesForType(GuiceModuleMetadata.class).length > 0) {
-			this.matcher = new CompositeTypeMatcher(
-					this.beanFactory.getBeansOfType(GuiceModuleMetadata.class).values());
+		finally {
+			step.end();
 		}
-		bind(this.beanFactory);
+	}
+
+	private <T> T findBean(Class<T> type, boolean allowEagerInit) {
+		String[] names = this.beanFactory.getBeanNamesForType(type, true, allowEagerInit);
+		if (names.length == 0) {
+			return null;
+		}
+		if (names.length == 1) {
+			return this.beanFactory.getBean(names[0], type);
+		}
+		return this.beanFactory.getBean(type);
 	}
 
 	public Provider<Injector> getInjector() {
 		return this.injector;
 	}
 
+	/**
+	 * Limit the number of supertypes (superclasses and interfaces, nearest first) that
+	 * each Spring bean is bound to. By default there is no limit.
+	 * @param maxSuperTypesPerBean the maximum number of supertypes, or a negative value
+	 * for no limit
+	 * @return this module
+	 */
+	public SpringModule maxSuperTypesPerBean(int maxSuperTypesPerBean) {
+		this.maxSuperTypesPerBean = maxSuperTypesPerBean;
+		return this;
+	}
+
+	/**
+	 * Fail if a Spring bean has more supertypes than the limit, instead of logging a
+	 * warning and binding only the nearest ones.
+	 * @param failOnBindingBudget whether to fail
+	 * @return this module
+	 */
+	public SpringModule failOnBindingBudget(boolean failOnBindingBudget) {
+		this.failOnBindingBudget = failOnBindingBudget;
+		return this;
+	}
+
+	/**
+	 * Log the Spring beans and types that produce the most Guice bindings once they are
+	 * bound.
+	 * @param bindingReport whether to log the report
+	 * @return this module
+	 */
+	public SpringModule bindingReport(boolean bindingReport) {
+		this.bindingReport = bindingReport;
+		return this;
+	}
+
+	/**
+	 * Choose the types that each Spring bean is also bound to with a <code>@Named</code>
+	 * qualifier carrying its bean name. Defaults to {@link NamedBindings#ALL}.
+	 * @param namedBindings the named bindings to create
+	 * @return this module
+	 */
+	public SpringModule namedBindings(NamedBindings namedBindings) {
+		this.namedBindings = namedBindings;
+		return this;
+	}
+
+	/**
+	 * Determine the types of Spring beans only from their bean definitions (including the
+	 * {@link FactoryBean#OBJECT_TYPE_ATTRIBUTE}), so that no bean or {@link FactoryBean}
+	 * is instantiated while the module is configured, and cache them. Beans whose type
+	 * cannot be determined that way are not bound.
+	 * @param metadataOnlyTypes whether to use only the bean definitions
+	 * @return this module
+	 */
+	public SpringModule metadataOnlyTypes(boolean metadataOnlyTypes) {
+		this.metadataOnlyTypes = metadataOnlyTypes;
+		return this;
+	}
+
+	/**
+	 * Work out the bindings for the Spring beans (their types, supertypes and keys) in
+	 * parallel, before binding them in bean definition order.
+	 * @param parallelPlanning whether to plan the bindings in parallel
+	 * @return this module
+	 */
+	public SpringModule parallelPlanning(boolean parallelPlanning) {
+		this.parallelPlanning = parallelPlanning;
+		return this;
+	}
+
+	/**
+	 * Keep the types that each Spring bean can be bound to in a file, and reuse them on
+	 * the next start if the classpath and bean definitions have not changed.
+	 * @param planCache the path of the file, or null for no cache
+	 * @return this module
+	 */
+	public SpringModule planCache(String planCache) {
+		this.planCache = planCache;
+		return this;
+	}
+
+	/**
+	 * Share the types that each Spring bean can be bound to with other modules for bean
+	 * factories with the same bean definitions (names, classes, factory methods and
+	 * roles), so that they are only worked out once, e.g. for many short-lived contexts
+	 * with the same configuration. A shared plan is kept while a module that uses it is
+	 * reachable, and does not keep the class loader of the bean factory alive after that.
+	 * @param sharedPlan whether to share the types
+	 * @return this module
+	 */
+	public SpringModule sharedPlan(boolean sharedPlan) {
+		this.sharedPlan = sharedPlan;
+		return this;
+	}
+
+	BindingReport getBindingReport() {
+		return this.report;
+	}
+
 	private void bind(ConfigurableListableBeanFactory beanFactory) {
-		for (String name : beanFactory.getBeanDefinitionNames()) {
-			BeanDefinition definition = beanFactory.getBeanDefinition(name);
+		StartupStep step = beanFactory.getApplicationStartup().start("spring.guice.module.bind").tag("parallel",
+				String.valueOf(this.parallelPlanning));
+		try {
+			String[] names = beanFactory.getBeanDefinitionNames();
+			step.tag("beanDefinitions", String.valueOf(names.length));
+			List<BeanPlan> plans = plan(beanFactory, names);
+			int bindings = 0;
+			this.report = (this.bindingReport) ? new BindingReport() : null;
+			// Bindings are emitted serially in bean definition order, so the first bean
+			// wins each type exactly as if they were planned serially
+			for (BeanPlan plan : plans) {
+				if (plan != null) {
+					bindings += emit(beanFactory, plan);
+				}
+			}
+			if (this.statistics != null) {
+				this.statistics.setSpringBeanBindings(bindings);
+			}
+			if (this.bindingReport) {
+				logger.info(this.report);
+			}
+			step.tag("bindings", String.valueOf(bindings));
+		}
+		finally {
+			step.end();
+		}
+	}
+
+	private List<BeanPlan> plan(ConfigurableListableBeanFactory beanFactory, String[] names) {
+		if (!this.sharedPlan && this.planCache == null) {
+			return plan(beanFactory, names, null, new ConcurrentHashMap<>());
+		}
+		ClassLoader classLoader = beanFactory.getBeanClassLoader();
+		String shape = BindingPlanCache.shape(beanFactory, names, this.maxSuperTypesPerBean, this.metadataOnlyTypes);
+		Map<String, BeanCandidates> shared = (this.sharedPlan) ? BindingPlanCache.getShared(shape, classLoader) : null;
+		// Keep the shared plan for as long as this module is in use, so that it goes away
+		// with the last context that needs it (and does not keep its class loader alive)
+		this.sharedCandidates = shared;
+		BindingPlanCache cache = null;
+		String fingerprint = null;
+		Map<String, BeanCandidates> cached = shared;
+		if (cached == null && this.planCache != null) {
+			cache = new BindingPlanCache(Path.of(this.planCache));
+			fingerprint = cache.fingerprint(shape);
+			cached = cache.load(fingerprint, classLoader);
+		}
+		Map<String, BeanCandidates> computed = new ConcurrentHashMap<>();
+		List<BeanPlan> plans = plan(beanFactory, names, cached, computed);
+		if (shared == null) {
+			Map<String, BeanCandidates> candidates = new HashMap<>();
+			if (cached != null) {
+				candidates.putAll(cached);
+			}
+			candidates.putAll(computed);
+			if (cache != null && cached == null) {
+				cache.save(fingerprint, candidates);
+			}
+			if (this.sharedPlan) {
+				this.sharedCandidates = BindingPlanCache.share(shape, classLoader, candidates);
+			}
+		}
+		return plans;
+	}
 
-			if (definition.hasAttribute(SPRING_GUICE_SOURCE)) {
+	private List<BeanPlan> plan(ConfigurableListableBeanFactory beanFactory, String[] names,
+			Map<String, BeanCandidates> cached, Map<String, BeanCandidates> computed) {
+		List<BeanPlan> plans = new ArrayList<>(names.length);
+		if (!this.parallelPlanning || names.length < 2) {
+			for (String name : names) {
+				plans.add(plan(beanFactory, name, cached, computed, null));
+			}
+			return plans;
+		}
+		// Resolving a type can create a FactoryBean, and the worker threads would block
+		// on
+		// the singleton lock if this thread holds it, so only the supertypes are worked
+		// out in parallel
+		Map<String, BeanType> types = new HashMap<>();
+		for (String name : names) {
+			if (isCandidate(beanFactory.getBeanDefinition(name)) && (cached == null || !cached.containsKey(name))) {
+				BeanType type = resolveType(beanFactory, name);
+				types.put(name, (type != null) ? type : BeanType.NONE);
+			}
+		}
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		try {
+			List<CompletableFuture<BeanPlan>> futures = new ArrayList<>(names.length);
+			for (String name : names) {
+				futures.add(CompletableFuture.supplyAsync(
+						() -> withClassLoader(classLoader, () -> plan(beanFactory, name, cached, computed, types)),
+						PlanningPool.INSTANCE));
+			}
+			for (CompletableFuture<BeanPlan> future : futures) {
+				plans.add(future.join());
+			}
+			return plans;
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
+	private static <T> T withClassLoader(ClassLoader classLoader, Supplier<T> supplier) {
+		Thread thread = Thread.currentThread();
+		ClassLoader original = thread.getContextClassLoader();
+		thread.setContextClassLoader(classLoader);
+		try {
+			return supplier.get();
+		}
+		finally {
+			thread.setContextClassLoader(original);
+		}
+	}
+
+	private BeanPlan plan(ConfigurableListableBeanFactory beanFactory, String name, Map<String, BeanCandidates> cached,
+			Map<String, BeanCandidates> computed, Map<String, BeanType> types) {
+		BeanDefinition definition = beanFactory.getBeanDefinition(name);
+		if (!isCandidate(definition)) {
+			return null;
+		}
+		BeanCandidates candidates = (cached != null) ? cached.get(name) : null;
+		if (candidates == null) {
+			BeanType beanType = (types != null) ? types.get(name) : resolveType(beanFactory, name);
+			candidates = candidates((beanType != BeanType.NONE) ? beanType : null);
+			computed.put(name, candidates);
+		}
+		if (candidates == BeanCandidates.NONE) {
+			return null;
+		}
+		BeanPlan plan = new BeanPlan(name, candidates.getType(), getAnnotationForBeanDefinition(definition));
+		plan.superTypes = candidates.getSuperTypes();
+		for (int i = 0; i < candidates.size(); i++) {
+			addBinding(plan, candidates.getType(i), candidates.isOwnType(i));
+		}
+		return plan;
+	}
+
+	private static boolean isCandidate(BeanDefinition definition) {
+		return !definition.hasAttribute(SPRING_GUICE_SOURCE) && definition.isAutowireCandidate()
+				&& definition.getRole() == AbstractBeanDefinition.ROLE_APPLICATION;
+	}
+
+	private BeanCandidates candidates(BeanType beanType) {
+		if (beanType == null) {
+			return BeanCandidates.NONE;
+		}
+		Class<?> clazz = beanType.clazz;
+		Type type = beanType.type;
+		List<Type> ownTypes = new ArrayList<>();
+		if (!clazz.isInterface() && !clazz.getName().contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+			ownTypes.add(clazz);
+		}
+		List<Type> superTypes = new ArrayList<>();
+		for (Type superType : SuperTypeClosures.get(type, clazz)) {
+			if (superType.getTypeName().contains(ClassUtils.CGLIB_CLASS_SEPARATOR) || superType.equals(Object.class)) {
 				continue;
 			}
-			Optional<Annotation> bindingAnnotation = getAnnotationForBeanDefinition(definition);
-			if (definition.isAutowireCandidate() && definition.getRole() == AbstractBeanDefinition.ROLE_APPLICATION) {
-				Type type;
-				Class<?> clazz = beanFactory.getType(name);
-				if (clazz == null) {
-					continue;
-				}
-				if (clazz.getTypeParameters().length > 0) {
-					RootBeanDefinition rootBeanDefinition = (RootBeanDefinition) beanFactory
-							.getMergedBeanDefinition(name);
-					if (rootBeanDefinition.getFactoryBeanName() != null
-							&& rootBeanDefinition.getResolvedFactoryMethod() != null) {
-						type = rootBeanDefinition.getResolvedFactoryMethod().getGenericReturnType();
-					}
-					else {
-						type = rootBeanDefinition.getResolvableType().getType();
-					}
-					if (type instanceof ParameterizedType) {
-						ParameterizedType parameterizedType = (ParameterizedType) type;
-						if (parameterizedType.getRawType() instanceof Class
-								&& FactoryBean.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
-							type = Types.newParameterizedTypeWithOwner(parameterizedType.getOwnerType(), clazz,
-									parameterizedType.getActualTypeArguments());
-						}
-					}
+			if (superType.equals(type) || superType.equals(clazz)) {
+				// The bean's own type does not count towards the budget
+				ownTypes.add(superType);
+			}
+			else {
+				superTypes.add(superType);
+			}
+		}
+		for (Type iface : clazz.getGenericInterfaces()) {
+			// The declared interfaces count towards the budget like any other supertype
+			if (!ownTypes.contains(iface) && !superTypes.contains(iface)) {
+				superTypes.add(iface);
+			}
+		}
+		int overBudget = 0;
+		if (this.maxSuperTypesPerBean >= 0 && superTypes.size() > this.maxSuperTypesPerBean) {
+			overBudget = superTypes.size();
+			superTypes = superTypes.subList(0, this.maxSuperTypesPerBean);
+		}
+		BeanCandidates candidates = new BeanCandidates(type, overBudget);
+		ownTypes.forEach((ownType) -> candidates.add(ownType, true));
+		superTypes.forEach((superType) -> candidates.add(superType, false));
+		return candidates;
+	}
 
-				}
-				else {
-					type = clazz;
-				}
+	@SuppressWarnings("unchecked")
+	private void addBinding(BeanPlan plan, Type type, boolean ownType) {
+		if (!this.matcher.matches(plan.name, type)) {
+			return;
+		}
+		String typeName = type.getTypeName();
+		if (typeName.startsWith("com.google.inject") || typeName.startsWith("jakarta.inject.Provider")) {
+			return;
+		}
+		if (type instanceof ParameterizedType && !TypeArguments.arePresent((ParameterizedType) type)) {
+			return;
+		}
+		Key<?> key = plan.bindingAnnotation.map((a) -> (Key<Object>) Key.get(type, a))
+				.orElse((Key<Object>) Key.get(type));
+		plan.bindings.add(new PlannedBinding(type, key, ownType));
+	}
 
-				Provider<?> typeProvider = BeanFactoryProvider.typed(beanFactory, type, bindingAnnotation);
-				Provider<?> namedProvider = BeanFactoryProvider.named(beanFactory, name, type, bindingAnnotation);
+	private int emit(ConfigurableListableBeanFactory beanFactory, BeanPlan plan) {
+		if (plan.superTypes > 0) {
+			String message = "Spring bean '" + plan.name + "' has " + plan.superTypes
+					+ " supertypes, more than the budget of " + this.maxSuperTypesPerBean;
+			if (this.failOnBindingBudget) {
+				throw new IllegalStateException(message);
+			}
+			logger.warn(message + ", so only the nearest " + this.maxSuperTypesPerBean + " are bound");
+			if (this.report != null) {
+				this.report.truncated(plan.superTypes - this.maxSuperTypesPerBean);
+			}
+		}
+		Provider<?> typeProvider = BeanFactoryProvider.typed(beanFactory, plan.type, plan.bindingAnnotation,
+				this.metrics, this.tracer, this.statistics, this.refresher);
+		Provider<?> namedProvider = BeanFactoryProvider.named(beanFactory, plan.name, plan.type, plan.bindingAnnotation,
+				this.metrics, this.tracer, this.statistics, this.refresher);
+		int bindings = 0;
+		for (PlannedBinding binding : plan.bindings) {
+			bindings += bindConditionally(binder(), plan.name, binding, typeProvider, namedProvider,
+					plan.bindingAnnotation);
+		}
+		return bindings;
+	}
 
-				if (!clazz.isInterface() && !clazz.getName().contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
-					bindConditionally(binder(), name, clazz, typeProvider, namedProvider, bindingAnnotation);
-				}
-				for (Type superType : getAllSuperTypes(type, clazz)) {
-					if (!superType.getTypeName().contains(ClassUtils.CGLIB_CLASS_SEPARATOR)
-							&& !superType.equals(Object.class)) {
-						bindConditionally(binder(), name, superType, typeProvider, namedProvider, bindingAnnotation);
-					}
+	private BeanType resolveType(ConfigurableListableBeanFactory beanFactory, String name) {
+		if (!this.metadataOnlyTypes) {
+			return computeType(beanFactory, name, true);
+		}
+		BeanType type = this.types.computeIfAbsent(name, (key) -> {
+			BeanType computed = computeType(beanFactory, key, false);
+			if (computed == null) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Not binding Spring bean '" + key + "' because its type cannot be determined");
 				}
-				for (Type iface : clazz.getGenericInterfaces()) {
-					bindConditionally(binder(), name, iface, typeProvider, namedProvider, bindingAnnotation);
+				return BeanType.NONE;
+			}
+			return computed;
+		});
+		return (type != BeanType.NONE) ? type : null;
+	}
+
+	private static BeanType computeType(ConfigurableListableBeanFactory beanFactory, String name,
+			boolean allowFactoryBeanInit) {
+		Class<?> clazz = beanFactory.getType(name, allowFactoryBeanInit);
+		if (clazz == null) {
+			return null;
+		}
+		Type type;
+		if (clazz.getTypeParameters().length > 0) {
+			RootBeanDefinition rootBeanDefinition = (RootBeanDefinition) beanFactory.getMergedBeanDefinition(name);
+			if (rootBeanDefinition.getFactoryBeanName() != null
+					&& rootBeanDefinition.getResolvedFactoryMethod() != null) {
+				type = rootBeanDefinition.getResolvedFactoryMethod().getGenericReturnType();
+			}
+			else {
+				type = rootBeanDefinition.getResolvableType().getType();
+			}
+			if (type instanceof ParameterizedType) {
+				ParameterizedType parameterizedType = (ParameterizedType) type;
+				if (parameterizedType.getRawType() instanceof Class
+						&& FactoryBean.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+					type = Types.newParameterizedTypeWithOwner(parameterizedType.getOwnerType(), clazz,
+							parameterizedType.getActualTypeArguments());
 				}
 			}
 		}
+		else {
+			type = clazz;
+		}
+		return new BeanType(clazz, type);
 	}
 
 	private static String getNameFromBindingAnnotation(Optional<Annotation> bindingAnnotation) {
@@ -225,66 +622,125 @@ public class SpringModule extends AbstractModule {
 		}
 	}
 
-	private static Set<Type> getAllSuperTypes(Type originalType, Class<?> clazz) {
-		Set<Type> allInterfaces = new HashSet<>();
-		TypeLiteral<?> typeToken = TypeLiteral.get(originalType);
-		Queue<Type> queue = new LinkedList<>();
-		queue.add(clazz);
-		if (originalType != clazz) {
-			queue.add(originalType);
-		}
-		while (!queue.isEmpty()) {
-			Type type = queue.poll();
-			allInterfaces.add(type);
-			if (type instanceof Class) {
-				for (Type i : ((Class<?>) type).getInterfaces()) {
-					if (i instanceof Class && ((Class<?>) i).isAssignableFrom(typeToken.getRawType())) {
-						Type superInterface = typeToken.getSupertype((Class<?>) i).getType();
-						queue.add(superInterface);
-						if (!(superInterface instanceof Class)) {
-							queue.add(i);
-						}
-					}
-				}
-				if (((Class<?>) type).getSuperclass() != null
-						&& ((Class<?>) type).isAssignableFrom(typeToken.getRawType())) {
-					Type superClass = typeToken.getSupertype(((Class<?>) type).getSuperclass()).getType();
-					queue.add(superClass);
-				}
-			}
-		}
-		return allInterfaces;
-	}
-
 	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private void bindConditionally(Binder binder, String name, Type type, Provider typeProvider, Provider namedProvider,
-			Optional<Annotation> bindingAnnotation) {
-		if (!this.matcher.matches(name, type)) {
-			return;
-		}
-		String typeName = type.getTypeName();
-		if (typeName.startsWith("com.google.inject") || typeName.startsWith("jakarta.inject.Provider")) {
-			return;
-		}
-		if (type instanceof ParameterizedType) {
-			ParameterizedType param = (ParameterizedType) type;
-			for (Type t : param.getActualTypeArguments()) {
-				if (!ClassUtils.isPresent(t.getTypeName(), null)) {
-					return;
-				}
-			}
-		}
-		Key<?> key = bindingAnnotation.map((a) -> (Key<Object>) Key.get(type, a)).orElse((Key<Object>) Key.get(type));
-		StageTypeKey stageTypeKey = new StageTypeKey(binder.currentStage(), key);
+	private int bindConditionally(Binder binder, String name, PlannedBinding binding, Provider typeProvider,
+			Provider namedProvider, Optional<Annotation> bindingAnnotation) {
+		int bindings = 0;
+		StageTypeKey stageTypeKey = new StageTypeKey(binder.currentStage(), binding.key);
 		// Only bind one provider for each type
 		if (this.bound.put(stageTypeKey, typeProvider) == null) {
-			binder.withSource(SPRING_GUICE_SOURCE).bind(key).toProvider(typeProvider);
+			binder.withSource(SPRING_GUICE_SOURCE).bind((Key) binding.key).toProvider(typeProvider);
+			bindings++;
 		}
 		// Allow binding to named beans if not already bound
-		if (!name.equals(getNameFromBindingAnnotation(bindingAnnotation))) {
-			binder.withSource(SPRING_GUICE_SOURCE).bind(TypeLiteral.get(type)).annotatedWith(Names.named(name))
+		if (this.namedBindings.includes(binding.ownType)
+				&& !name.equals(getNameFromBindingAnnotation(bindingAnnotation))) {
+			binder.withSource(SPRING_GUICE_SOURCE).bind(TypeLiteral.get(binding.type)).annotatedWith(Names.named(name))
 					.toProvider(namedProvider);
+			bindings++;
 		}
+		if (this.report != null) {
+			this.report.add(name, binding.type.getTypeName(), bindings);
+		}
+		return bindings;
+	}
+
+	/**
+	 * The types that a Spring bean is bound to with a <code>@Named</code> qualifier
+	 * carrying its bean name.
+	 */
+	public enum NamedBindings {
+
+		/**
+		 * The bean type and all of its supertypes.
+		 */
+		ALL,
+
+		/**
+		 * Only the bean type.
+		 */
+		CONCRETE_TYPE,
+
+		/**
+		 * None, so beans can only be injected by type (and binding annotation).
+		 */
+		NONE;
+
+		boolean includes(boolean ownType) {
+			return this == ALL || (this == CONCRETE_TYPE && ownType);
+		}
+
+	}
+
+	/**
+	 * The bindings planned for one Spring bean, ready to be emitted.
+	 */
+	private static final class BeanPlan {
+
+		private final String name;
+
+		private final Type type;
+
+		private final Optional<Annotation> bindingAnnotation;
+
+		private final List<PlannedBinding> bindings = new ArrayList<>();
+
+		// The number of supertypes if it is over the budget
+		private int superTypes;
+
+		BeanPlan(String name, Type type, Optional<Annotation> bindingAnnotation) {
+			this.name = name;
+			this.type = type;
+			this.bindingAnnotation = bindingAnnotation;
+		}
+
+	}
+
+	private static final class PlannedBinding {
+
+		private final Type type;
+
+		private final Key<?> key;
+
+		private final boolean ownType;
+
+		PlannedBinding(Type type, Key<?> key, boolean ownType) {
+			this.type = type;
+			this.key = key;
+			this.ownType = ownType;
+		}
+
+	}
+
+	private static final class BeanType {
+
+		private static final BeanType NONE = new BeanType(null, null);
+
+		private final Class<?> clazz;
+
+		private final Type type;
+
+		BeanType(Class<?> clazz, Type type) {
+			this.clazz = clazz;
+			this.type = type;
+		}
+
+	}
+
+	/**
+	 * Holder of the pool that plans bindings in parallel, created on first use and shared
+	 * by all modules, so that creating many contexts or child injectors does not start
+	 * and stop a pool each time. Its threads are daemons and go away when they are idle.
+	 */
+	private static final class PlanningPool {
+
+		private static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+				(pool) -> {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					thread.setName("spring-guice-plan-" + thread.getPoolIndex());
+					return thread;
+				}, null, false);
+
 	}
 
 	private static class StageTypeKey {
@@ -351,31 +807,94 @@ public class SpringModule extends AbstractModule {
 
 		private Provider<Object> resultProvider;
 
+		private String resultName;
+
 		private Optional<Annotation> bindingAnnotation;
 
+		private final ProvisionStatistics statistics;
+
+		private final ProvisionTracer tracer;
+
+		private final GuiceBridgeStatistics bridgeStatistics;
+
+		private final ContextRefresher refresher;
+
 		private BeanFactoryProvider(ConfigurableListableBeanFactory beanFactory, String name, Type type,
-				Optional<Annotation> bindingAnnotation) {
+				Optional<Annotation> bindingAnnotation, ProvisionMetrics metrics, ProvisionTracer tracer,
+				GuiceBridgeStatistics bridgeStatistics, ContextRefresher refresher) {
 			this.beanFactory = beanFactory;
+			this.refresher = refresher;
+			this.tracer = tracer;
+			this.bridgeStatistics = bridgeStatistics;
 			this.name = name;
 			this.bindingAnnotation = bindingAnnotation;
 			this.type = type;
+			this.statistics = (metrics != null) ? metrics.getStatistics(ProvisionMetrics.SPRING_BEAN, describe())
+					: null;
 		}
 
 		@SuppressWarnings("checkstyle:SpringMethodVisibility")
 		public static Provider<?> named(ConfigurableListableBeanFactory beanFactory, String name, Type type,
-				Optional<Annotation> bindingAnnotation) {
-			return new BeanFactoryProvider(beanFactory, name, type, bindingAnnotation);
+				Optional<Annotation> bindingAnnotation, ProvisionMetrics metrics, ProvisionTracer tracer,
+				GuiceBridgeStatistics bridgeStatistics, ContextRefresher refresher) {
+			return new BeanFactoryProvider(beanFactory, name, type, bindingAnnotation, metrics, tracer,
+					bridgeStatistics, refresher);
 		}
 
 		@SuppressWarnings("checkstyle:SpringMethodVisibility")
 		public static Provider<?> typed(ConfigurableListableBeanFactory beanFactory, Type type,
-				Optional<Annotation> bindingAnnotation) {
-			return new BeanFactoryProvider(beanFactory, null, type, bindingAnnotation);
+				Optional<Annotation> bindingAnnotation, ProvisionMetrics metrics, ProvisionTracer tracer,
+				GuiceBridgeStatistics bridgeStatistics, ContextRefresher refresher) {
+			return new BeanFactoryProvider(beanFactory, null, type, bindingAnnotation, metrics, tracer,
+					bridgeStatistics, refresher);
 		}
 
 		@Override
-		@SuppressWarnings("checkstyle:NestedIfDepth")
 		public Object get() {
+			ProvisionEvent event = new ProvisionEvent();
+			event.begin();
+			boolean firstResolution = this.resultProvider == null;
+			if (this.bridgeStatistics != null) {
+				this.bridgeStatistics.provisioned();
+			}
+			long start = (this.statistics != null) ? System.nanoTime() : 0;
+			ProvisionTrace trace = (this.tracer != null) ? this.tracer.start(ProvisionTracer.SPRING_BEAN,
+					(this.name != null) ? this.name : this.type.getTypeName()) : null;
+			try {
+				return provide();
+			}
+			finally {
+				if (this.tracer != null) {
+					this.tracer.end(trace);
+				}
+				if (this.statistics != null) {
+					this.statistics.record(System.nanoTime() - start);
+				}
+				event.end();
+				if (event.shouldCommit()) {
+					event.setOrigin(SpringModule.class.getSimpleName());
+					event.setKey(this.type.getTypeName());
+					event.setBeanName(this.resultName);
+					if (this.resultName != null && this.beanFactory.containsBeanDefinition(this.resultName)) {
+						String scope = this.beanFactory.getMergedBeanDefinition(this.resultName).getScope();
+						event.setScope(StringUtils.hasText(scope) ? scope : BeanDefinition.SCOPE_SINGLETON);
+					}
+					event.setFirstResolution(firstResolution);
+					event.commit();
+				}
+			}
+		}
+
+		private String describe() {
+			return (this.name != null) ? this.type.getTypeName() + " named " + this.name : this.type.getTypeName();
+		}
+
+		@SuppressWarnings("checkstyle:NestedIfDepth")
+		private Object provide() {
+			if (this.refresher != null) {
+				// The context must be refreshed before any of its beans is used
+				this.refresher.ensureRefreshed();
+			}
 			if (this.resultProvider == null) {
 
 				String[] named = BeanFactoryUtils.beanNamesForTypeIncludingAncestors(this.beanFactory,
@@ -434,12 +953,20 @@ public class SpringModule extends AbstractModule {
 					}
 				}
 				if (matchingBeanNames.size() == 1) {
+					this.resultName = matchingBeanNames.get(0);
+					if (this.bridgeStatistics != null) {
+						this.bridgeStatistics.resolved(describe(), this.resultName);
+					}
 					this.resultProvider = () -> this.beanFactory.getBean(matchingBeanNames.get(0));
 				}
 				else {
 					// Shouldn't we iterate over matching bean names here?
 					for (String name : candidateBeanNames) {
 						if (this.beanFactory.getBeanDefinition(name).isPrimary()) {
+							this.resultName = name;
+							if (this.bridgeStatistics != null) {
+								this.bridgeStatistics.resolved(describe(), name);
+							}
 							this.resultProvider = () -> this.beanFactory.getBean(name);
 							break;
 						}
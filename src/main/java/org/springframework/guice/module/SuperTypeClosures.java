@@ -0,0 +1,106 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+import com.google.inject.TypeLiteral;
+
+/**
+ * Cache of the supertype closures of bean types, shared by all {@link SpringModule}
+ * instances. Beans in a context tend to share base classes and interfaces, so the same
+ * closures are resolved over and over. The closure of a class is kept with the class
+ * itself (in a {@link ClassValue}), and only refers to its supertypes, so the cache does
+ * not prevent classes from being unloaded. Closures of generic bean types can refer to
+ * classes from other class loaders, so they are not cached.
+ *
+ * @author Dave Syer
+ */
+final class SuperTypeClosures {
+
+	private static final ClassValue<List<Type>> cache = new ClassValue<>() {
+
+		@Override
+		protected List<Type> computeValue(Class<?> type) {
+			return resolve(type, type);
+		}
+
+	};
+
+	private SuperTypeClosures() {
+	}
+
+	/**
+	 * The type and all its superclasses and interfaces, resolved against the type if it
+	 * is generic, nearest first.
+	 * @param originalType the (possibly generic) bean type
+	 * @param clazz the bean class
+	 * @return the supertype closure (immutable)
+	 */
+	static List<Type> get(Type originalType, Class<?> clazz) {
+		return (originalType == clazz) ? cache.get(clazz) : resolve(originalType, clazz);
+	}
+
+	/**
+	 * Resolve the supertype closure without the cache.
+	 * @param originalType the (possibly generic) bean type
+	 * @param clazz the bean class
+	 * @return the supertype closure (immutable)
+	 */
+	static List<Type> resolve(Type originalType, Class<?> clazz) {
+		// Breadth first, so the nearest supertypes come first
+		Set<Type> allInterfaces = new LinkedHashSet<>();
+		TypeLiteral<?> typeToken = TypeLiteral.get(originalType);
+		Queue<Type> queue = new ArrayDeque<>();
+		queue.add(clazz);
+		if (originalType != clazz) {
+			queue.add(originalType);
+		}
+		while (!queue.isEmpty()) {
+			Type type = queue.poll();
+			if (!allInterfaces.add(type)) {
+				// Already visited through another path (e.g. a diamond of interfaces)
+				continue;
+			}
+			if (type instanceof Class) {
+				for (Type i : ((Class<?>) type).getInterfaces()) {
+					if (i instanceof Class && ((Class<?>) i).isAssignableFrom(typeToken.getRawType())) {
+						Type superInterface = typeToken.getSupertype((Class<?>) i).getType();
+						queue.add(superInterface);
+						if (!(superInterface instanceof Class)) {
+							queue.add(i);
+						}
+					}
+				}
+				if (((Class<?>) type).getSuperclass() != null
+						&& ((Class<?>) type).isAssignableFrom(typeToken.getRawType())) {
+					Type superClass = typeToken.getSupertype(((Class<?>) type).getSuperclass()).getType();
+					queue.add(superClass);
+				}
+			}
+		}
+		return Collections.unmodifiableList(new ArrayList<>(allInterfaces));
+	}
+
+}
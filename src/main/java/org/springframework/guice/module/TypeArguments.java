@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Checks that the type arguments of a generic bean type can be loaded, so that the type
+ * can be bound in Guice. The same arguments come up over and over, so the results of
+ * loading them by name (including failures) are cached, up to a limit, for each class
+ * loader. The class loaders are weak keys, and the results only hold class names, so the
+ * cache does not keep a class loader from being collected.
+ *
+ * @author Dave Syer
+ */
+final class TypeArguments {
+
+	private static final int CACHE_LIMIT = 4096;
+
+	private static final Map<ClassLoader, Map<String, Boolean>> presence = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private TypeArguments() {
+	}
+
+	/**
+	 * Whether all the type arguments of the type are classes that can be loaded from the
+	 * default class loader.
+	 * @param type the parameterized type
+	 * @return true if all the arguments are present
+	 */
+	static boolean arePresent(ParameterizedType type) {
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+		for (Type argument : type.getActualTypeArguments()) {
+			if (!isPresent(argument, classLoader)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isPresent(Type argument, ClassLoader classLoader) {
+		if (!(argument instanceof Class)) {
+			// Parameterized, wildcard and variable types have no class name to load
+			return false;
+		}
+		Class<?> clazz = (Class<?>) argument;
+		ClassLoader loader = clazz.getClassLoader();
+		if (loader == null || loader == classLoader) {
+			return true;
+		}
+		Map<String, Boolean> names = presence.computeIfAbsent(classLoader, (key) -> new ConcurrentHashMap<>());
+		String name = clazz.getTypeName();
+		Boolean present = names.get(name);
+		if (present == null) {
+			present = ClassUtils.isPresent(name, classLoader);
+			if (names.size() < CACHE_LIMIT) {
+				names.put(name, present);
+			}
+		}
+		return present;
+	}
+
+	static int size() {
+		synchronized (presence) {
+			return presence.values().stream().mapToInt(Map::size).sum();
+		}
+	}
+
+}
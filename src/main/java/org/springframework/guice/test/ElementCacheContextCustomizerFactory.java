@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.test;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContextAnnotationUtils;
+
+/**
+ * {@link ContextCustomizerFactory} that switches on the cache of recorded Guice elements
+ * in the contexts of test classes annotated with {@link EnableGuiceElementCache}. Other
+ * test contexts are left alone. Registered in <code>META-INF/spring.factories</code>, and
+ * only loaded if spring-test is on the classpath.
+ *
+ * @author Dave Syer
+ */
+public class ElementCacheContextCustomizerFactory implements ContextCustomizerFactory {
+
+	@Override
+	public ContextCustomizer createContextCustomizer(Class<?> testClass,
+			List<ContextConfigurationAttributes> configAttributes) {
+		if (!TestContextAnnotationUtils.hasAnnotation(testClass, EnableGuiceElementCache.class)) {
+			return null;
+		}
+		return new ElementCacheContextCustomizer();
+	}
+
+	static class ElementCacheContextCustomizer implements ContextCustomizer {
+
+		static final String PROPERTY_SOURCE_NAME = "springGuiceElementCache";
+
+		@Override
+		public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+			// Added last, so that anything the test sets explicitly takes precedence
+			context.getEnvironment().getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME,
+					Collections.singletonMap("spring.guice.elementCache", "true")));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return (obj != null) && obj.getClass() == getClass();
+		}
+
+		@Override
+		public int hashCode() {
+			return getClass().hashCode();
+		}
+
+	}
+
+}
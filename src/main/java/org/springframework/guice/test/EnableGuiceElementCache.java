@@ -0,0 +1,44 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.test;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Switch on the cache of recorded Guice elements ({@code spring.guice.elementCache=true})
+ * for the application context of a test class that uses the Spring TestContext framework,
+ * so that the modules marked with
+ * {@link org.springframework.guice.annotation.DeterministicModule} are only recorded once
+ * for all the test contexts that use them. Put it on a common base class (or a meta
+ * annotation) to share the modules across a test suite. A value of the property set
+ * explicitly for the test still wins.
+ *
+ * @author Dave Syer
+ * @see ElementCacheContextCustomizerFactory
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface EnableGuiceElementCache {
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice;
+
+import java.util.Collection;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.guice.annotation.EnableGuiceModules;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncInjectorTests {
+
+	@BeforeEach
+	public void init() {
+		System.setProperty("spring.guice.asyncInjector", "true");
+	}
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.asyncInjector");
+	}
+
+	@Test
+	public void injectorIsCreatedInBackground() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			GuiceService service = context.getBean(GuiceService.class);
+			assertThat(service.thread).startsWith("spring-guice-injector-");
+			assertThat(service.bean).isSameAs(context.getBean(SpringBean.class));
+			assertThat(context.getBean(SpringConsumer.class).service).isSameAs(service);
+			assertThat(context.getBean(Injector.class).getInstance(GuiceService.class)).isSameAs(service);
+		}
+	}
+
+	@Test
+	public void injectorLookupsDoNotQueueWork() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			Injector injector = context.getBean(Injector.class);
+			for (int i = 0; i < 1000; i++) {
+				injector.getInstance(GuiceService.class);
+			}
+			Collection<?> queue = (Collection<?>) ReflectionTestUtils
+					.getField(context.getBean("guiceInjectorInitializer"), "springProvisions");
+			assertThat(queue).isEmpty();
+		}
+	}
+
+	@Test
+	public void injectorCreationFailureFailsRefresh() {
+		assertThatThrownBy(() -> new AnnotationConfigApplicationContext(FailingConfig.class))
+				.hasRootCauseMessage("Planned");
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(GuiceService.class).asEagerSingleton();
+				}
+			};
+		}
+
+		@Bean
+		SpringBean springBean() {
+			return new SpringBean();
+		}
+
+		@Bean
+		SpringConsumer springConsumer(GuiceService service) {
+			return new SpringConsumer(service);
+		}
+
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class FailingConfig {
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(FailingService.class).asEagerSingleton();
+				}
+			};
+		}
+
+	}
+
+	public static class SpringBean {
+
+	}
+
+	public static class SpringConsumer {
+
+		private final GuiceService service;
+
+		SpringConsumer(GuiceService service) {
+			this.service = service;
+		}
+
+	}
+
+	public static class GuiceService {
+
+		private final String thread = Thread.currentThread().getName();
+
+		private final SpringBean bean;
+
+		@Inject
+		GuiceService(SpringBean bean) {
+			this.bean = bean;
+		}
+
+	}
+
+	public static class FailingService {
+
+		FailingService() {
+			throw new IllegalStateException("Planned");
+		}
+
+	}
+
+}
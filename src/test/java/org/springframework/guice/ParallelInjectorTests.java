@@ -0,0 +1,270 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice;
+
+import java.util.Set;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.PrivateModule;
+import com.google.inject.Singleton;
+import com.google.inject.TypeLiteral;
+import com.google.inject.multibindings.Multibinder;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.guice.annotation.EnableGuiceModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelInjectorTests {
+
+	@BeforeEach
+	public void init() {
+		System.setProperty("spring.guice.parallelInjectors", "true");
+	}
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.parallelInjectors");
+	}
+
+	@Test
+	public void independentModulesAreCreatedInParallel() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			Injector injector = context.getBean(Injector.class);
+			ServiceA serviceA = context.getBean(ServiceA.class);
+			ServiceB serviceB = context.getBean(ServiceB.class);
+			ServiceC serviceC = context.getBean(ServiceC.class);
+			assertThat(serviceA.thread).startsWith("spring-guice-injector-");
+			assertThat(serviceB.thread).startsWith("spring-guice-injector-");
+			assertThat(serviceC.thread).startsWith("spring-guice-injector-");
+			assertThat(serviceA.bean).isSameAs(context.getBean(SpringBean.class));
+			assertThat(serviceA.shared).isSameAs(serviceB.shared);
+			assertThat(serviceC.shared).isSameAs(serviceA.shared);
+			assertThat(injector.getInstance(ServiceA.class)).isSameAs(serviceA);
+			assertThat(injector.getInstance(ServiceC.class)).isSameAs(serviceC);
+			assertThat(injector.getInstance(Key.get(new TypeLiteral<Set<String>>() {
+			}))).containsExactlyInAnyOrder("a", "b");
+			assertThat(context.getBean(SpringConsumer.class).service).isSameAs(serviceC);
+		}
+	}
+
+	@Test
+	public void justInTimeBindingsCanDependOnAComponent() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class,
+				LazyConsumerConfig.class)) {
+			Injector injector = context.getBean(Injector.class);
+			Unbound unbound = injector.getInstance(Unbound.class);
+			assertThat(unbound.service).isSameAs(context.getBean(ServiceB.class));
+			assertThat(injector.getExistingBinding(Key.get(Unbound.class))).isNotNull();
+			assertThat(context.getBean(LazyConsumer.class).unbound.getService()).isSameAs(unbound.service);
+		}
+	}
+
+	@Test
+	public void childInjectorsSeeTheBindingsOfTheComponents() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			Injector child = context.getBean(Injector.class)
+					.createChildInjector((Module) (binder) -> binder.bind(Report.class));
+			Report report = child.getInstance(Report.class);
+			assertThat(report.serviceB).isSameAs(context.getBean(ServiceB.class));
+			assertThat(report.serviceC).isSameAs(context.getBean(ServiceC.class));
+			assertThat(report.shared).isSameAs(context.getBean(Shared.class));
+		}
+	}
+
+	@Configuration
+	static class LazyConsumerConfig {
+
+		@Bean
+		LazyConsumer lazyConsumer(@Lazy Unbound unbound) {
+			return new LazyConsumer(unbound);
+		}
+
+	}
+
+	public static class LazyConsumer {
+
+		private final Unbound unbound;
+
+		LazyConsumer(Unbound unbound) {
+			this.unbound = unbound;
+		}
+
+	}
+
+	public static class Report {
+
+		private final ServiceB serviceB;
+
+		private final ServiceC serviceC;
+
+		private final Shared shared;
+
+		@Inject
+		public Report(ServiceB serviceB, ServiceC serviceC, Shared shared) {
+			this.serviceB = serviceB;
+			this.serviceC = serviceC;
+			this.shared = shared;
+		}
+
+	}
+
+	public static class Unbound {
+
+		private final ServiceB service;
+
+		@Inject
+		public Unbound(ServiceB service) {
+			this.service = service;
+		}
+
+		public ServiceB getService() {
+			return this.service;
+		}
+
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		static AbstractModule sharedModule() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Shared.class).in(Singleton.class);
+				}
+			};
+		}
+
+		@Bean
+		static AbstractModule moduleA() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(ServiceA.class).asEagerSingleton();
+					Multibinder.newSetBinder(binder(), String.class).addBinding().toInstance("a");
+				}
+			};
+		}
+
+		@Bean
+		static AbstractModule moduleB() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(ServiceB.class).asEagerSingleton();
+					Multibinder.newSetBinder(binder(), String.class).addBinding().toInstance("b");
+				}
+			};
+		}
+
+		@Bean
+		static PrivateModule moduleC() {
+			return new PrivateModule() {
+				@Override
+				protected void configure() {
+					bind(ServiceC.class).asEagerSingleton();
+					expose(ServiceC.class);
+				}
+			};
+		}
+
+		@Bean
+		SpringBean springBean() {
+			return new SpringBean();
+		}
+
+		@Bean
+		SpringConsumer springConsumer(ServiceC service) {
+			return new SpringConsumer(service);
+		}
+
+	}
+
+	public static class SpringBean {
+
+	}
+
+	public static class SpringConsumer {
+
+		private final ServiceC service;
+
+		SpringConsumer(ServiceC service) {
+			this.service = service;
+		}
+
+	}
+
+	public static class Shared {
+
+	}
+
+	public static class ServiceA {
+
+		private final String thread = Thread.currentThread().getName();
+
+		private final SpringBean bean;
+
+		private final Shared shared;
+
+		@Inject
+		ServiceA(SpringBean bean, Shared shared) {
+			this.bean = bean;
+			this.shared = shared;
+		}
+
+	}
+
+	public static class ServiceB {
+
+		private final String thread = Thread.currentThread().getName();
+
+		private final Shared shared;
+
+		@Inject
+		ServiceB(Shared shared) {
+			this.shared = shared;
+		}
+
+	}
+
+	public static class ServiceC {
+
+		private final String thread = Thread.currentThread().getName();
+
+		private final Shared shared;
+
+		@Inject
+		ServiceC(Shared shared) {
+			this.shared = shared;
+		}
+
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.guice.annotation.EnableGuiceModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelSingletonTests {
+
+	private static final AtomicInteger sequence = new AtomicInteger();
+
+	@BeforeEach
+	public void init() {
+		System.setProperty("spring.guice.parallelSingletons", "true");
+		System.setProperty("spring.guice.stage", "DEVELOPMENT");
+	}
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.parallelSingletons");
+		System.clearProperty("spring.guice.stage");
+	}
+
+	@Test
+	public void singletonsAreInstantiatedInDependencyOrder() {
+		int start = sequence.get();
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			// Lazy bean definitions, so anything instantiated was done during the refresh
+			assertThat(sequence.get()).isEqualTo(start + 3);
+			Injector injector = context.getBean(Injector.class);
+			Cache cache = injector.getInstance(Cache.class);
+			Repository repository = injector.getInstance(Repository.class);
+			Service service = injector.getInstance(Service.class);
+			assertThat(cache.thread).startsWith("spring-guice-singletons-");
+			assertThat(repository.thread).startsWith("spring-guice-singletons-");
+			assertThat(service.thread).startsWith("spring-guice-singletons-");
+			assertThat(repository.order).isGreaterThan(cache.order);
+			assertThat(service.order).isGreaterThan(repository.order);
+			assertThat(service.repository).isSameAs(repository);
+			assertThat(repository.bean).isSameAs(context.getBean(SpringBean.class));
+			assertThat(context.getBean(Service.class)).isSameAs(service);
+			assertThat(sequence.get()).isEqualTo(start + 3);
+		}
+	}
+
+	@Test
+	public void singletonFailureFailsRefresh() {
+		assertThatThrownBy(() -> new AnnotationConfigApplicationContext(FailingConfig.class))
+				.hasRootCauseMessage("Planned");
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Cache.class).in(Singleton.class);
+					bind(Repository.class).in(Singleton.class);
+					bind(Service.class).in(Singleton.class);
+				}
+			};
+		}
+
+		@Bean
+		SpringBean springBean() {
+			return new SpringBean();
+		}
+
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class FailingConfig {
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(FailingService.class).in(Singleton.class);
+				}
+			};
+		}
+
+	}
+
+	public static class SpringBean {
+
+	}
+
+	public static class Cache {
+
+		private final String thread = Thread.currentThread().getName();
+
+		private final int order = sequence.incrementAndGet();
+
+	}
+
+	public static class Repository {
+
+		private final SpringBean bean;
+
+		private final Cache cache;
+
+		private final String thread = Thread.currentThread().getName();
+
+		private final int order;
+
+		@Inject
+		Repository(SpringBean bean, Cache cache) {
+			this.bean = bean;
+			this.cache = cache;
+			this.order = sequence.incrementAndGet();
+		}
+
+	}
+
+	public static class Service {
+
+		private final Repository repository;
+
+		private final String thread = Thread.currentThread().getName();
+
+		private final int order;
+
+		@Inject
+		Service(Repository repository) {
+			this.repository = repository;
+			this.order = sequence.incrementAndGet();
+		}
+
+	}
+
+	public static class FailingService {
+
+		FailingService() {
+			throw new IllegalStateException("Planned");
+		}
+
+	}
+
+}
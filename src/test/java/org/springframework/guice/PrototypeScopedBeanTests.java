@@ -19,6 +19,7 @@ package org.springframework.guice;
 import com.google.inject.AbstractModule;
 import com.google.inject.Injector;
 import com.google.inject.Module;
+import com.google.inject.Provider;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +27,7 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
+import org.springframework.core.ResolvableType;
 import org.springframework.guice.annotation.EnableGuiceModules;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +45,35 @@ public class PrototypeScopedBeanTests {
 		assertThat(gs2.bean).isNotEqualTo(gs1.bean);
 	}
 
+	@Test
+	public void testPrototypeGuiceBindingExposesProvider() {
+		System.setProperty("spring.guice.providerBeans", "true");
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class,
+				ProviderConsumerConfig.class)) {
+			assertThat(context
+					.getBeanNamesForType(ResolvableType.forClassWithGenerics(Provider.class, GuicePrototype.class)))
+							.hasSize(1);
+			GuiceProviderConsumer consumer = context.getBean(GuiceProviderConsumer.class);
+			GuicePrototype first = consumer.provider.get();
+			assertThat(first).isNotNull();
+			assertThat(consumer.provider.get()).isNotSameAs(first);
+			assertThat(context.getBean(GuicePrototype.class)).isNotSameAs(first);
+		}
+		finally {
+			System.clearProperty("spring.guice.providerBeans");
+		}
+	}
+
+	@Test
+	public void testProviderBeansAreOptIn() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			assertThat(context
+					.getBeanNamesForType(ResolvableType.forClassWithGenerics(Provider.class, GuicePrototype.class)))
+							.isEmpty();
+			assertThat(context.getBean(GuicePrototype.class)).isNotSameAs(context.getBean(GuicePrototype.class));
+		}
+	}
+
 	@Configuration
 	@EnableGuiceModules
 	static class ModulesConfig {
@@ -54,6 +85,7 @@ public class PrototypeScopedBeanTests {
 				protected void configure() {
 					bind(GuiceService1.class).asEagerSingleton();
 					bind(GuiceService2.class).asEagerSingleton();
+					bind(GuicePrototype.class);
 				}
 			};
 		}
@@ -66,10 +98,34 @@ public class PrototypeScopedBeanTests {
 
 	}
 
+	@Configuration
+	static class ProviderConsumerConfig {
+
+		@Bean
+		GuiceProviderConsumer guiceProviderConsumer(Provider<GuicePrototype> provider) {
+			return new GuiceProviderConsumer(provider);
+		}
+
+	}
+
 	public static class PrototypeBean {
 
 	}
 
+	public static class GuicePrototype {
+
+	}
+
+	public static class GuiceProviderConsumer {
+
+		private final Provider<GuicePrototype> provider;
+
+		GuiceProviderConsumer(Provider<GuicePrototype> provider) {
+			this.provider = provider;
+		}
+
+	}
+
 	public static class GuiceService1 {
 
 		@Inject
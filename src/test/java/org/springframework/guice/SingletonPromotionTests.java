@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.guice.annotation.EnableGuiceModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SingletonPromotionTests {
+
+	@BeforeEach
+	public void init() {
+		System.setProperty("spring.guice.promoteSingletons", "true");
+	}
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.promoteSingletons");
+		System.clearProperty("spring.guice.parallelSingletons");
+		System.clearProperty("spring.guice.asyncInjector");
+	}
+
+	@Test
+	public void eagerSingletonIsRegisteredAsPlainSingleton() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			Injector injector = context.getBean(Injector.class);
+			Object singleton = context.getBeanFactory().getSingleton(EagerService.class.getName());
+			assertThat(singleton).isInstanceOf(EagerService.class);
+			assertThat(context.getBean(EagerService.class)).isSameAs(injector.getInstance(EagerService.class));
+		}
+	}
+
+	@Test
+	public void lazySingletonIsStillServedByFactoryBean() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			Injector injector = context.getBean(Injector.class);
+			Object singleton = context.getBeanFactory().getSingleton(LazyService.class.getName());
+			assertThat(singleton).isInstanceOf(FactoryBean.class);
+			assertThat(context.getBean(LazyService.class)).isSameAs(injector.getInstance(LazyService.class));
+		}
+	}
+
+	@Test
+	public void singletonsInstantiatedInParallelArePromoted() {
+		System.setProperty("spring.guice.parallelSingletons", "true");
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			Injector injector = context.getBean(Injector.class);
+			Object singleton = context.getBeanFactory().getSingleton(LazyService.class.getName());
+			assertThat(singleton).isInstanceOf(LazyService.class);
+			assertThat(context.getBean(LazyService.class)).isSameAs(injector.getInstance(LazyService.class));
+		}
+	}
+
+	@Test
+	public void asyncInjectorSingletonsAreNotPromoted() {
+		System.setProperty("spring.guice.asyncInjector", "true");
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			Injector injector = context.getBean(Injector.class);
+			Object singleton = context.getBeanFactory().getSingleton(EagerService.class.getName());
+			assertThat(singleton).isInstanceOf(FactoryBean.class);
+			assertThat(context.getBean(EagerService.class)).isSameAs(injector.getInstance(EagerService.class));
+		}
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(EagerService.class).asEagerSingleton();
+					bind(LazyService.class).in(Singleton.class);
+				}
+			};
+		}
+
+	}
+
+	static class EagerService {
+
+	}
+
+	static class LazyService {
+
+	}
+
+}
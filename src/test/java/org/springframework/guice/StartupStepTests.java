@@ -0,0 +1,197 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.google.inject.AbstractModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.guice.annotation.EnableGuiceModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupStepTests {
+
+	@BeforeEach
+	public void init() {
+		System.setProperty("spring.guice.dedup", "true");
+	}
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.dedup");
+	}
+
+	@Test
+	public void bridgePhasesAreRecorded() {
+		RecordingApplicationStartup startup = new RecordingApplicationStartup();
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+			context.setApplicationStartup(startup);
+			context.register(ModulesConfig.class);
+			context.refresh();
+			assertThat(context.getBean(Service.class)).isNotNull();
+		}
+		assertThat(startup.step("spring.guice.modules.record").tags).containsEntry("modules", "2")
+				.containsKey("elements");
+		assertThat(startup.step("spring.guice.bindings.dedup").tags).containsKey("removed");
+		assertThat(startup.step("spring.guice.bindings.register").tags).containsKey("bindings")
+				.containsKey("beanDefinitions");
+		assertThat(startup.step("spring.guice.injector.create").tags).containsEntry("async", "false")
+				.containsKey("bindings");
+		assertThat(startup.step("spring.guice.module.configure").tags).containsKey("stage");
+		assertThat(startup.step("spring.guice.module.bind").tags).containsKey("beanDefinitions")
+				.containsKey("bindings");
+		assertThat(startup.steps).allMatch((step) -> step.ended);
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Service.class);
+				}
+			};
+		}
+
+		@Bean
+		SpringBean springBean() {
+			return new SpringBean();
+		}
+
+	}
+
+	public static class SpringBean {
+
+	}
+
+	public static class Service {
+
+	}
+
+	static class RecordingApplicationStartup implements ApplicationStartup {
+
+		private final List<RecordedStep> steps = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public StartupStep start(String name) {
+			RecordedStep step = new RecordedStep(name);
+			this.steps.add(step);
+			return step;
+		}
+
+		RecordedStep step(String name) {
+			synchronized (this.steps) {
+				return this.steps.stream().filter((step) -> step.name.equals(name)).findFirst().orElseThrow();
+			}
+		}
+
+	}
+
+	static class RecordedStep implements StartupStep {
+
+		private final String name;
+
+		private final Map<String, String> tags = new LinkedHashMap<>();
+
+		private volatile boolean ended;
+
+		RecordedStep(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public long getId() {
+			return 0;
+		}
+
+		@Override
+		public Long getParentId() {
+			return null;
+		}
+
+		@Override
+		public StartupStep tag(String key, String value) {
+			this.tags.put(key, value);
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value) {
+			return tag(key, value.get());
+		}
+
+		@Override
+		public Tags getTags() {
+			return () -> {
+				Iterator<Map.Entry<String, String>> entries = this.tags.entrySet().iterator();
+				return new Iterator<Tag>() {
+					@Override
+					public boolean hasNext() {
+						return entries.hasNext();
+					}
+
+					@Override
+					public Tag next() {
+						Map.Entry<String, String> entry = entries.next();
+						return new Tag() {
+							@Override
+							public String getKey() {
+								return entry.getKey();
+							}
+
+							@Override
+							public String getValue() {
+								return entry.getValue();
+							}
+						};
+					}
+				};
+			};
+		}
+
+		@Override
+		public void end() {
+			this.ended = true;
+		}
+
+	}
+
+}
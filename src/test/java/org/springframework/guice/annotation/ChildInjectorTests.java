@@ -0,0 +1,171 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Singleton;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChildInjectorTests {
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.childInjector");
+	}
+
+	@Test
+	public void childContextCreatesChildInjector() {
+		System.setProperty("spring.guice.childInjector", "true");
+		try (AnnotationConfigApplicationContext parent = new AnnotationConfigApplicationContext(ParentConfig.class);
+				AnnotationConfigApplicationContext child = child(parent)) {
+			Injector parentInjector = parent.getBean(Injector.class);
+			Injector childInjector = child.getBean(Injector.class);
+			assertThat(childInjector.getParent()).isSameAs(parentInjector);
+			ChildService service = child.getBean(ChildService.class);
+			assertThat(service.parentService).isSameAs(parent.getBean(ParentService.class));
+			assertThat(service.shared).isSameAs(parent.getBean(SharedBean.class));
+			assertThat(service.local).isSameAs(child.getBean(LocalBean.class));
+			// Only the bindings of the child context are in the child injector
+			assertThat(childInjector.getBindings()).containsKeys(Key.get(ChildService.class), Key.get(LocalBean.class));
+			assertThat(childInjector.getBindings()).doesNotContainKeys(Key.get(ParentService.class),
+					Key.get(SharedBean.class), Key.get(Greeting.class));
+			assertThat(childInjector.getInstance(Greeting.class)).isSameAs(parent.getBean(Greeting.class));
+		}
+	}
+
+	@Test
+	public void childInjectorIsOptIn() {
+		try (AnnotationConfigApplicationContext parent = new AnnotationConfigApplicationContext(ParentConfig.class);
+				AnnotationConfigApplicationContext child = child(parent)) {
+			Injector childInjector = child.getBean(Injector.class);
+			assertThat(childInjector.getParent()).isNull();
+			assertThat(child.getBean(ChildService.class).local).isSameAs(child.getBean(LocalBean.class));
+		}
+	}
+
+	private static AnnotationConfigApplicationContext child(AnnotationConfigApplicationContext parent) {
+		AnnotationConfigApplicationContext child = new AnnotationConfigApplicationContext();
+		child.setParent(parent);
+		child.register(ChildConfig.class);
+		child.refresh();
+		return child;
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableGuiceModules
+	static class ParentConfig {
+
+		@Bean
+		static AbstractModule parentModule() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(ParentService.class).in(Singleton.class);
+				}
+			};
+		}
+
+		@Bean
+		SharedBean sharedBean() {
+			return new SharedBean();
+		}
+
+		@Bean
+		ParentGreeting parentGreeting() {
+			return new ParentGreeting();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableGuiceModules
+	static class ChildConfig {
+
+		@Bean
+		static AbstractModule childModule() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(ChildService.class).in(Singleton.class);
+				}
+			};
+		}
+
+		@Bean
+		LocalBean localBean() {
+			return new LocalBean();
+		}
+
+		@Bean
+		ChildGreeting childGreeting() {
+			return new ChildGreeting();
+		}
+
+	}
+
+	public interface Greeting {
+
+	}
+
+	public static class ParentGreeting implements Greeting {
+
+	}
+
+	public static class ChildGreeting implements Greeting {
+
+	}
+
+	public static class SharedBean {
+
+	}
+
+	public static class LocalBean {
+
+	}
+
+	public static class ParentService {
+
+	}
+
+	public static class ChildService {
+
+		private final ParentService parentService;
+
+		private final SharedBean shared;
+
+		private final LocalBean local;
+
+		@Inject
+		public ChildService(ParentService parentService, SharedBean shared, LocalBean local) {
+			this.parentService = parentService;
+			this.shared = shared;
+			this.local = local;
+		}
+
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GuiceLazyInitPolicyTests {
+
+	private static final AtomicInteger adminInstances = new AtomicInteger();
+
+	private static final AtomicInteger requestInstances = new AtomicInteger();
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.stage");
+		adminInstances.set(0);
+		requestInstances.set(0);
+	}
+
+	@Test
+	public void policyDefersMatchingBindingsInProduction() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(PolicyConfig.class)) {
+			assertThat(context.getBeanFactory().getBeanDefinition(AdminService.class.getName()).isLazyInit()).isTrue();
+			assertThat(context.getBeanFactory().getBeanDefinition(RequestService.class.getName()).isLazyInit())
+					.isFalse();
+			assertThat(adminInstances.get()).isEqualTo(0);
+			assertThat(requestInstances.get()).isEqualTo(1);
+			context.getBean(AdminService.class);
+			assertThat(adminInstances.get()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void policyKeepsMatchingBindingsEagerInDevelopment() {
+		System.setProperty("spring.guice.stage", "DEVELOPMENT");
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(PolicyConfig.class)) {
+			assertThat(context.getBeanFactory().getBeanDefinition(AdminService.class.getName()).isLazyInit()).isTrue();
+			assertThat(context.getBeanFactory().getBeanDefinition(RequestService.class.getName()).isLazyInit())
+					.isFalse();
+			assertThat(adminInstances.get()).isEqualTo(0);
+			assertThat(requestInstances.get()).isEqualTo(1);
+		}
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class PolicyConfig {
+
+		@Bean
+		static AdminModule adminModule() {
+			return new AdminModule();
+		}
+
+		@Bean
+		static AbstractModule requestModule() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(RequestService.class).in(Singleton.class);
+				}
+			};
+		}
+
+		@Bean
+		static GuiceLazyInitPolicy lazyInitPolicy() {
+			return new GuiceLazyInitPolicy().lazy(GuiceLazyInitPolicy.modules(AdminModule.class))
+					.eager(GuiceLazyInitPolicy.types(RequestService.class));
+		}
+
+	}
+
+	public static class AdminModule extends AbstractModule {
+
+		@Override
+		protected void configure() {
+			bind(AdminService.class).in(Singleton.class);
+		}
+
+	}
+
+	public static class AdminService {
+
+		public AdminService() {
+			adminInstances.incrementAndGet();
+		}
+
+	}
+
+	public static class RequestService {
+
+		public RequestService() {
+			requestInstances.incrementAndGet();
+		}
+
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.PrivateModule;
+import com.google.inject.Provides;
+import com.google.inject.Stage;
+import com.google.inject.spi.Element;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModuleConfigurationReportTests {
+
+	@TempDir
+	File temp;
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.moduleReport");
+		System.clearProperty("spring.guice.moduleReportFile");
+	}
+
+	@Test
+	public void elementsAreAttributedToTopLevelModules() {
+		Module services = new ServicesModule();
+		Module internal = new InternalModule();
+		ModuleConfigurationReport report = new ModuleConfigurationReport(Collections.singletonMap(services, "services"),
+				null);
+		List<Element> elements = report.record(Stage.TOOL, Arrays.asList(services, internal));
+		assertThat(elements).hasSize(3);
+		List<ModuleConfigurationReport.Entry> entries = report.getEntries();
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0).getName()).isEqualTo("services");
+		assertThat(entries.get(0).getBindings()).isEqualTo(2);
+		assertThat(entries.get(0).getProvidesMethods()).isEqualTo(1);
+		assertThat(entries.get(0).getPrivateElements()).isEqualTo(0);
+		assertThat(entries.get(1).getName()).isEqualTo(InternalModule.class.getName());
+		assertThat(entries.get(1).getBindings()).isEqualTo(1);
+		assertThat(entries.get(1).getPrivateElements()).isEqualTo(1);
+		assertThat(entries).allMatch((entry) -> entry.getNanos() >= 0);
+	}
+
+	@Test
+	public void reportIsWrittenToFile() throws Exception {
+		File file = new File(this.temp, "modules.txt");
+		System.setProperty("spring.guice.moduleReport", "true");
+		System.setProperty("spring.guice.moduleReportFile", file.getAbsolutePath());
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			assertThat(context.getBean(Service.class)).isNotNull();
+			assertThat(context.getBean(Internal.class)).isNotNull();
+		}
+		String report = Files.readString(file.toPath());
+		assertThat(report).contains("creating the injector");
+		assertThat(report).contains("servicesModule");
+		assertThat(report).contains("internalModule");
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		static ServicesModule servicesModule() {
+			return new ServicesModule();
+		}
+
+		@Bean
+		static InternalModule internalModule() {
+			return new InternalModule();
+		}
+
+	}
+
+	public static class ServicesModule extends AbstractModule {
+
+		@Override
+		protected void configure() {
+			bind(Service.class);
+		}
+
+		@Provides
+		Repository repository() {
+			return new Repository();
+		}
+
+	}
+
+	public static class InternalModule extends PrivateModule {
+
+		@Override
+		protected void configure() {
+			bind(Internal.class);
+			expose(Internal.class);
+		}
+
+	}
+
+	public static class Service {
+
+	}
+
+	public static class Repository {
+
+	}
+
+	public static class Internal {
+
+	}
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.annotation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Provides;
+import com.google.inject.Stage;
+import com.google.inject.name.Names;
+import com.google.inject.spi.Element;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModuleElementCacheTests {
+
+	private static final AtomicInteger deterministic = new AtomicInteger();
+
+	private static final AtomicInteger plain = new AtomicInteger();
+
+	@BeforeEach
+	public void init() {
+		ModuleElementCache.clear();
+		deterministic.set(0);
+		plain.set(0);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.elementCache");
+		ModuleElementCache.clear();
+	}
+
+	@Test
+	public void deterministicModulesAreRecordedOnceAcrossContexts() {
+		System.setProperty("spring.guice.elementCache", "true");
+		for (int i = 0; i < 3; i++) {
+			try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+					ModulesConfig.class)) {
+				assertThat(context.getBean(Service.class)).isNotNull();
+				assertThat(context.getBean(Other.class)).isNotNull();
+			}
+		}
+		assertThat(deterministic.get()).isEqualTo(1);
+		assertThat(plain.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void cacheIsOffByDefault() {
+		for (int i = 0; i < 2; i++) {
+			try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+					ModulesConfig.class)) {
+				assertThat(context.getBean(Service.class)).isNotNull();
+			}
+		}
+		assertThat(deterministic.get()).isGreaterThanOrEqualTo(2);
+		assertThat(ModuleElementCache.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void elementsKeepTheirOrder() {
+		List<Element> elements = ModuleElementCache.record(Stage.TOOL,
+				Arrays.asList(new PlainModule(), new DeterministicServiceModule(), new NamedModule("last")));
+		assertThat(elements).hasSize(3);
+		assertThat(((Binding<?>) elements.get(0)).getKey()).isEqualTo(Key.get(Other.class));
+		assertThat(((Binding<?>) elements.get(1)).getKey()).isEqualTo(Key.get(Service.class));
+		assertThat(((Binding<?>) elements.get(2)).getKey()).isEqualTo(Key.get(String.class, Names.named("last")));
+	}
+
+	@Test
+	public void modulesWithValuesAreCachedPerValue() {
+		ModuleElementCache.record(Stage.TOOL, Arrays.asList(new NamedModule("one"), new NamedModule("one")));
+		ModuleElementCache.record(Stage.TOOL, Arrays.asList(new NamedModule("two")));
+		ModuleElementCache.record(Stage.TOOL, Arrays.asList(new DeterministicServiceModule()));
+		ModuleElementCache.record(Stage.TOOL, Arrays.asList(new DeterministicServiceModule()));
+		assertThat(ModuleElementCache.size()).isEqualTo(3);
+		assertThat(deterministic.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void providerMethodsAreRecordedForEachContext() {
+		System.setProperty("spring.guice.elementCache", "true");
+		try (AnnotationConfigApplicationContext one = new AnnotationConfigApplicationContext(OneConfig.class,
+				ProvidesConfig.class);
+				AnnotationConfigApplicationContext two = new AnnotationConfigApplicationContext(TwoConfig.class,
+						ProvidesConfig.class)) {
+			assertThat(one.getBean(Greeting.class).value).isEqualTo("v1");
+			assertThat(two.getBean(Greeting.class).value).isEqualTo("v2");
+			assertThat(one.getBean(Greeting.class).value).isEqualTo("v1");
+		}
+	}
+
+	@Test
+	public void providerLookupsAreRecordedForEachContext() {
+		System.setProperty("spring.guice.elementCache", "true");
+		for (int i = 0; i < 2; i++) {
+			try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+					LookupConfig.class)) {
+				assertThat(context.getBean(Service.class)).isNotNull();
+			}
+		}
+		assertThat(ModuleElementCache.record(Stage.TOOL, Arrays.asList(new LookupModule()))).isNotEmpty();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableGuiceModules
+	static class ProvidesConfig {
+
+		@Bean
+		static GreetingModule greetingModule() {
+			return new GreetingModule();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class OneConfig {
+
+		@Bean
+		Integer number() {
+			return 1;
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class TwoConfig {
+
+		@Bean
+		Integer number() {
+			return 2;
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableGuiceModules
+	static class LookupConfig {
+
+		@Bean
+		static LookupModule lookupModule() {
+			return new LookupModule();
+		}
+
+	}
+
+	@DeterministicModule
+	public static class GreetingModule extends AbstractModule {
+
+		@Provides
+		Greeting greeting(Integer number) {
+			return new Greeting("v" + number);
+		}
+
+	}
+
+	@DeterministicModule
+	public static class LookupModule extends AbstractModule {
+
+		@Override
+		protected void configure() {
+			Provider<Service> provider = getProvider(Service.class);
+			bind(Service.class);
+		}
+
+	}
+
+	public static class Greeting {
+
+		private final String value;
+
+		Greeting(String value) {
+			this.value = value;
+		}
+
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		static DeterministicServiceModule serviceModule() {
+			return new DeterministicServiceModule();
+		}
+
+		@Bean
+		static PlainModule plainModule() {
+			return new PlainModule();
+		}
+
+	}
+
+	@DeterministicModule
+	public static class DeterministicServiceModule extends AbstractModule {
+
+		@Override
+		protected void configure() {
+			deterministic.incrementAndGet();
+			bind(Service.class);
+		}
+
+	}
+
+	public static class PlainModule extends AbstractModule {
+
+		@Override
+		protected void configure() {
+			plain.incrementAndGet();
+			bind(Other.class);
+		}
+
+	}
+
+	@DeterministicModule
+	public static class NamedModule extends AbstractModule {
+
+		private final String name;
+
+		NamedModule(String name) {
+			this.name = name;
+		}
+
+		@Override
+		protected void configure() {
+			bindConstant().annotatedWith(Names.named(this.name)).to(this.name);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return (obj instanceof NamedModule) && ((NamedModule) obj).name.equals(this.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.name);
+		}
+
+	}
+
+	public static class Service {
+
+	}
+
+	public static class Other {
+
+	}
+
+}
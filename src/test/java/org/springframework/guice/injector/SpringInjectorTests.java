@@ -16,8 +16,12 @@
 
 package org.springframework.guice.injector;
 
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.name.Names;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +33,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.guice.AbstractCompleteWiringTests.Baz;
 import org.springframework.guice.AbstractCompleteWiringTests.MyService;
 import org.springframework.guice.AbstractCompleteWiringTests.Service;
+import org.springframework.guice.annotation.EnableGuiceModules;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -74,6 +79,52 @@ public class SpringInjectorTests {
 		assertThat(this.injector.getInstance(Baz.class)).isNotNull();
 	}
 
+	@Test
+	public void childResolvesParentBeans() {
+		Injector child = this.injector.createChildInjector();
+		assertThat(child.getParent()).isSameAs(this.injector);
+		assertThat(child.getInstance(Service.class)).isSameAs(this.context.getBean(Service.class));
+		int beanDefinitions = this.context.getBeanDefinitionCount();
+		assertThat(child.getInstance(Baz.class)).isNotNull();
+		// The just-in-time bean is only registered in the child
+		assertThat(this.context.getBeanDefinitionCount()).isEqualTo(beanDefinitions);
+		assertThat(this.context.getBeanNamesForType(Baz.class)).isEmpty();
+	}
+
+	@Test
+	public void childModulesAreOnlyBoundInChild() {
+		int beanDefinitions = this.context.getBeanDefinitionCount();
+		Injector child = this.injector.createChildInjector(new TenantModule("acme"));
+		Injector other = this.injector.createChildInjector(new TenantModule("other"));
+		Tenant tenant = child.getInstance(Tenant.class);
+		assertThat(tenant.name).isEqualTo("acme");
+		assertThat(tenant.service).isSameAs(this.context.getBean(Service.class));
+		assertThat(other.getInstance(Tenant.class).name).isEqualTo("other");
+		assertThat(child.getInstance(Key.get(String.class, Names.named("tenant")))).isEqualTo("acme");
+		assertThat(this.context.getBeanDefinitionCount()).isEqualTo(beanDefinitions);
+	}
+
+	@Test
+	public void grandchildSeesModulesOfItsParents() {
+		Injector child = this.injector.createChildInjector(new TenantModule("acme"));
+		Injector grandchild = child.createChildInjector(new ReportModule());
+		Key<Service> tenantService = Key.get(Service.class, Names.named("tenant"));
+		assertThat(grandchild.getInstance(tenantService)).isSameAs(child.getInstance(tenantService));
+		Report report = grandchild.getInstance(Report.class);
+		assertThat(report.tenant.name).isEqualTo("acme");
+		assertThat(report.service).isSameAs(this.context.getBean(Service.class));
+	}
+
+	@Test
+	public void childOfGuiceInjector() {
+		this.injector = new SpringInjector(create(GuiceConfig.class));
+		Injector child = this.injector.createChildInjector(new TenantModule("acme"));
+		Tenant tenant = child.getInstance(Tenant.class);
+		assertThat(tenant.name).isEqualTo("acme");
+		assertThat(tenant.service).isSameAs(this.context.getBean(Service.class));
+		assertThat(this.context.getBean(Injector.class).getExistingBinding(Key.get(Tenant.class))).isNull();
+	}
+
 	private ApplicationContext create(Class<?>... config) {
 		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
 		context.register(TestConfig.class);
@@ -95,6 +146,12 @@ public class SpringInjectorTests {
 
 	}
 
+	@Configuration
+	@EnableGuiceModules
+	public static class GuiceConfig {
+
+	}
+
 	@Configuration
 	public static class TestConfig {
 
@@ -105,4 +162,58 @@ public class SpringInjectorTests {
 
 	}
 
+	static class TenantModule extends AbstractModule {
+
+		private final String name;
+
+		TenantModule(String name) {
+			this.name = name;
+		}
+
+		@Override
+		protected void configure() {
+			bindConstant().annotatedWith(Names.named("tenant")).to(this.name);
+			bind(Tenant.class);
+			bind(Service.class).annotatedWith(Names.named("tenant")).toInstance(new MyService());
+		}
+
+	}
+
+	static class ReportModule extends AbstractModule {
+
+		@Override
+		protected void configure() {
+			bind(Report.class);
+		}
+
+	}
+
+	public static class Report {
+
+		private final Tenant tenant;
+
+		private final Service service;
+
+		@Inject
+		public Report(Tenant tenant, Service service) {
+			this.tenant = tenant;
+			this.service = service;
+		}
+
+	}
+
+	public static class Tenant {
+
+		private final String name;
+
+		private final Service service;
+
+		@Inject
+		public Tenant(@Named("tenant") String name, Service service) {
+			this.name = name;
+			this.service = service;
+		}
+
+	}
+
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.jfr;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.inject.AbstractModule;
+import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.guice.annotation.EnableGuiceModules;
+import org.springframework.guice.injector.SpringInjector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecorderEventTests {
+
+	@TempDir
+	Path temp;
+
+	@Test
+	public void bridgeEventsAreRecorded() throws Exception {
+		List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable(ProvisionEvent.NAME).withThreshold(Duration.ZERO);
+			recording.enable(InjectorCreationEvent.NAME);
+			recording.enable(ElementRecordingEvent.NAME);
+			recording.start();
+			try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+					ModulesConfig.class)) {
+				assertThat(context.getBean(Service.class).bean).isSameAs(context.getBean(SpringBean.class));
+				assertThat(new SpringInjector(context).getInstance(SpringBean.class)).isNotNull();
+			}
+			recording.stop();
+			Path file = this.temp.resolve("events.jfr");
+			recording.dump(file);
+			events = RecordingFile.readAllEvents(file);
+		}
+		assertThat(names(events)).contains(ElementRecordingEvent.NAME, InjectorCreationEvent.NAME, ProvisionEvent.NAME);
+		List<RecordedEvent> provisions = events.stream()
+				.filter((event) -> event.getEventType().getName().equals(ProvisionEvent.NAME))
+				.collect(Collectors.toList());
+		assertThat(provisions).anySatisfy((event) -> {
+			assertThat(event.getString("origin")).isEqualTo("SpringModule");
+			assertThat(event.getString("beanName")).isEqualTo("springBean");
+			assertThat(event.getString("scope")).isEqualTo("singleton");
+			assertThat(event.getBoolean("firstResolution")).isTrue();
+		});
+		assertThat(provisions).anySatisfy((event) -> {
+			assertThat(event.getString("origin")).isEqualTo("GuiceFactoryBean");
+			assertThat(event.getString("key")).contains(Service.class.getName());
+			assertThat(event.getString("beanName")).isEqualTo(Service.class.getName());
+		});
+		assertThat(provisions).anySatisfy((event) -> {
+			assertThat(event.getString("origin")).isEqualTo("SpringInjector");
+			assertThat(event.getString("key")).contains(SpringBean.class.getName());
+		});
+		RecordedEvent injector = events.stream()
+				.filter((event) -> event.getEventType().getName().equals(InjectorCreationEvent.NAME)).findFirst().get();
+		assertThat(injector.getInt("bindings")).isGreaterThan(0);
+		assertThat(injector.getBoolean("async")).isFalse();
+	}
+
+	private static List<String> names(List<RecordedEvent> events) {
+		return events.stream().map((event) -> event.getEventType().getName()).collect(Collectors.toList());
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Service.class);
+				}
+			};
+		}
+
+		@Bean
+		SpringBean springBean() {
+			return new SpringBean();
+		}
+
+	}
+
+	public static class SpringBean {
+
+	}
+
+	public static class Service {
+
+		private final SpringBean bean;
+
+		@Inject
+		public Service(SpringBean bean) {
+			this.bean = bean;
+		}
+
+	}
+
+}
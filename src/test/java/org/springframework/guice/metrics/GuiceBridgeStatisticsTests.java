@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.google.inject.AbstractModule;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.guice.annotation.EnableGuiceModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GuiceBridgeStatisticsTests {
+
+	private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+	@BeforeEach
+	public void init() {
+		System.setProperty("spring.guice.statistics", "true");
+	}
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.statistics");
+		System.clearProperty("spring.guice.jmx");
+	}
+
+	@Test
+	public void statisticsAreOptIn() throws Exception {
+		System.clearProperty("spring.guice.statistics");
+		ObjectName query = new ObjectName("org.springframework.guice:type=GuiceBridge,*");
+		Set<ObjectName> before = this.server.queryNames(query, null);
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BridgeConfig.class)) {
+			assertThat(context.getBean(Service.class)).isNotNull();
+			assertThat(context.containsBean(GuiceBridgeStatistics.BEAN_NAME)).isFalse();
+			assertThat(this.server.queryNames(query, null)).isEqualTo(before);
+		}
+	}
+
+	@Test
+	public void bridgeStateIsExposed() throws Exception {
+		ObjectName query = new ObjectName("org.springframework.guice:type=GuiceBridge,*");
+		Set<ObjectName> before = this.server.queryNames(query, null);
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BridgeConfig.class)) {
+			assertThat(context.getBean(Service.class)).isNotNull();
+			Set<ObjectName> names = this.server.queryNames(query, null);
+			names.removeAll(before);
+			assertThat(names).hasSize(1);
+			ObjectName name = names.iterator().next();
+			assertThat((Integer) this.server.getAttribute(name, "SpringBeanBindings")).isGreaterThan(0);
+			assertThat((Integer) this.server.getAttribute(name, "GuiceBeanDefinitions")).isGreaterThan(0);
+			assertThat((Long) this.server.getAttribute(name, "InjectorCreationMillis")).isGreaterThanOrEqualTo(0);
+			assertThat((Long) this.server.getAttribute(name, "CrossContainerProvisions")).isGreaterThan(0);
+			String[] resolutions = (String[]) this.server.invoke(name, "dumpResolutions", null, null);
+			assertThat(resolutions).anySatisfy((resolution) -> assertThat(resolution)
+					.contains(Service.class.getName() + ", annotation=[none]] -> " + Service.class.getName()));
+			assertThat(resolutions).anySatisfy(
+					(resolution) -> assertThat(resolution).contains(SpringBean.class.getName() + " -> springBean"));
+		}
+		assertThat(this.server.queryNames(query, null)).isEqualTo(before);
+	}
+
+	@Test
+	public void registrationCanBeDisabled() throws Exception {
+		System.setProperty("spring.guice.jmx", "false");
+		ObjectName query = new ObjectName("org.springframework.guice:type=GuiceBridge,*");
+		Set<ObjectName> before = this.server.queryNames(query, null);
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(BridgeConfig.class)) {
+			assertThat(this.server.queryNames(query, null)).isEqualTo(before);
+			assertThat(context.getBean(Service.class)).isNotNull();
+			assertThat(context.getBean(GuiceBridgeStatistics.BEAN_NAME, GuiceBridgeStatistics.class)
+					.getCrossContainerProvisions()).isGreaterThan(0);
+		}
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class BridgeConfig {
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Service.class);
+				}
+			};
+		}
+
+		@Bean
+		SpringBean springBean() {
+			return new SpringBean();
+		}
+
+	}
+
+	public static class SpringBean {
+
+	}
+
+	public static class Service {
+
+		@Inject
+		public Service(SpringBean bean) {
+		}
+
+	}
+
+}
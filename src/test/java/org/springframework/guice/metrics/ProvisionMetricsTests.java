@@ -0,0 +1,128 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Key;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.guice.annotation.EnableGuiceModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProvisionMetricsTests {
+
+	@Test
+	public void histogramBucketsArePowersOfTwo() {
+		ProvisionStatistics statistics = new ProvisionStatistics(ProvisionMetrics.GUICE_BEAN, "foo");
+		statistics.record(1000);
+		statistics.record(3000);
+		statistics.record(3500);
+		statistics.record(1_000_000);
+		assertThat(statistics.getCount()).isEqualTo(4);
+		assertThat(statistics.getTotalNanos()).isEqualTo(1_007_500);
+		assertThat(statistics.getMaxNanos()).isEqualTo(1_000_000);
+		assertThat(statistics.getBuckets()[10]).isEqualTo(1);
+		assertThat(statistics.getBuckets()[12]).isEqualTo(2);
+		assertThat(statistics.getBuckets()[20]).isEqualTo(1);
+		assertThat(statistics.getPercentileNanos(0.5)).isEqualTo(4096);
+		assertThat(statistics.getPercentileNanos(0.99)).isEqualTo(1_000_000);
+		statistics.reset();
+		assertThat(statistics.getCount()).isEqualTo(0);
+		assertThat(statistics.getPercentileNanos(0.5)).isEqualTo(0);
+	}
+
+	@Test
+	public void bridgedProvisionsAreRecorded() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName query = new ObjectName("org.springframework.guice:type=ProvisionMetrics,*");
+		Set<ObjectName> before = server.queryNames(query, null);
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(MetricsConfig.class)) {
+			Service service = context.getBean(Service.class);
+			assertThat(context.getBean(Service.class)).isNotSameAs(service);
+			ProvisionMetrics metrics = context.getBean(ProvisionMetrics.class);
+			String key = Key.get(Service.class).toString();
+			assertThat(metrics.getStatistics(ProvisionMetrics.GUICE_BEAN, key).getCount()).isEqualTo(2);
+			assertThat(metrics.getStatistics(ProvisionMetrics.GUICE_PROVISION, key).getCount()).isEqualTo(2);
+			assertThat(metrics.getAllStatistics()).anySatisfy((statistics) -> {
+				assertThat(statistics.getOrigin()).isEqualTo(ProvisionMetrics.SPRING_BEAN);
+				assertThat(statistics.getKey()).contains(SpringBean.class.getName());
+				assertThat(statistics.getCount()).isEqualTo(2);
+			});
+			Set<ObjectName> names = server.queryNames(query, null);
+			names.removeAll(before);
+			assertThat(names).hasSize(1);
+			ObjectName name = names.iterator().next();
+			assertThat((Long) server.getAttribute(name, "ProvisionCount")).isGreaterThanOrEqualTo(6);
+			assertThat((String[]) server.getAttribute(name, "Statistics")).isNotEmpty();
+			server.invoke(name, "reset", null, null);
+			assertThat(metrics.getProvisionCount()).isEqualTo(0);
+		}
+		assertThat(server.queryNames(query, null)).isEqualTo(before);
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class MetricsConfig {
+
+		@Bean
+		static ProvisionMetrics provisionMetrics() {
+			ProvisionMetrics metrics = new ProvisionMetrics();
+			metrics.setGuiceProvisions(true);
+			return metrics;
+		}
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Service.class);
+				}
+			};
+		}
+
+		@Bean
+		SpringBean springBean() {
+			return new SpringBean();
+		}
+
+	}
+
+	public static class SpringBean {
+
+	}
+
+	public static class Service {
+
+		@Inject
+		public Service(SpringBean bean) {
+		}
+
+	}
+
+}
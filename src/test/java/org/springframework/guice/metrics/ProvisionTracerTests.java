@@ -0,0 +1,192 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.inject.AbstractModule;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.guice.annotation.EnableGuiceModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProvisionTracerTests {
+
+	@Test
+	public void startupChainsCrossTheBridge() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TracerConfig.class)) {
+			ProvisionTracer tracer = context.getBean(ProvisionTracer.class);
+			ProvisionTrace controller = tracer.getSlowestChains().stream()
+					.filter((trace) -> trace.getName().equals("springController")).findFirst().get();
+			assertThat(path(controller)).containsSubsequence("spring springController", "guice-bean",
+					"guice Key[type=" + GuiceService.class.getName(), "spring-bean " + SpringRepository.class.getName(),
+					"spring springRepository");
+			assertThat(controller.getSelfNanos()).isLessThanOrEqualTo(controller.getTotalNanos());
+			assertThat(tracer.report()).contains("[spring] springController");
+		}
+	}
+
+	@Test
+	public void afterStartupOnlyExplicitTracesAreRecorded() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TracerConfig.class)) {
+			ProvisionTracer tracer = context.getBean(ProvisionTracer.class);
+			tracer.reset();
+			context.getBean(GuiceService.class);
+			assertThat(tracer.getSlowestChains()).isEmpty();
+			tracer.trace("request", () -> context.getBean(GuiceService.class));
+			List<ProvisionTrace> chains = tracer.getSlowestChains();
+			assertThat(chains).hasSize(1);
+			assertThat(path(chains.get(0))).containsSubsequence("trace request", "guice-bean", "spring-bean");
+		}
+	}
+
+	@Test
+	public void failedCreationsDoNotLeaveSpansOpen() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(FailureConfig.class)) {
+			ProvisionTracer tracer = context.getBean(ProvisionTracer.class);
+			ProvisionTrace consumer = tracer.getSlowestChains().stream()
+					.filter((trace) -> trace.getName().equals("consumer")).findFirst().get();
+			assertThat(path(consumer)).containsSubsequence("spring consumer", "spring broken");
+			assertThat(consumer.getChildren()).allMatch(ProvisionTrace::isEnded);
+			tracer.reset();
+			tracer.trace("request", () -> context.getBean("consumer"));
+			assertThat(tracer.getSlowestChains()).extracting(ProvisionTrace::getName).containsExactly("request");
+		}
+	}
+
+	@Test
+	public void spansLeftOpenAreClosedWhenTheContextIsRefreshed() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+			ProvisionTracer tracer = new ProvisionTracer();
+			tracer.setApplicationContext(context);
+			tracer.postProcessBeforeInstantiation(Broken.class, "broken");
+			tracer.onApplicationEvent(new ContextRefreshedEvent(context));
+			assertThat(tracer.getSlowestChains()).isEmpty();
+			tracer.trace("request", () -> null);
+			assertThat(tracer.getSlowestChains()).extracting(ProvisionTrace::getName).containsExactly("request");
+		}
+	}
+
+	private static String path(ProvisionTrace trace) {
+		List<String> result = new ArrayList<>();
+		collect(trace, result);
+		return String.join("\n", result);
+	}
+
+	private static void collect(ProvisionTrace trace, List<String> result) {
+		result.add(trace.getOrigin() + " " + trace.getName());
+		for (ProvisionTrace child : trace.getChildren()) {
+			collect(child, result);
+		}
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class TracerConfig {
+
+		@Bean
+		static ProvisionTracer provisionTracer() {
+			return new ProvisionTracer();
+		}
+
+		@Bean
+		static AbstractModule module() {
+			return new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(GuiceService.class);
+				}
+			};
+		}
+
+		@Bean
+		@Lazy
+		SpringRepository springRepository() {
+			return new SpringRepository();
+		}
+
+		@Bean
+		SpringController springController(GuiceService service) {
+			return new SpringController(service);
+		}
+
+	}
+
+	@Configuration
+	static class FailureConfig {
+
+		@Bean
+		static ProvisionTracer provisionTracer() {
+			return new ProvisionTracer();
+		}
+
+		@Bean
+		@Lazy
+		Broken broken() {
+			return new Broken();
+		}
+
+		@Bean
+		Object consumer(ObjectProvider<Broken> broken) {
+			try {
+				broken.getObject();
+			}
+			catch (RuntimeException ex) {
+				// expected
+			}
+			return new Object();
+		}
+
+	}
+
+	public static class Broken {
+
+		Broken() {
+			throw new IllegalStateException("Planned");
+		}
+
+	}
+
+	public static class SpringRepository {
+
+	}
+
+	public static class SpringController {
+
+		SpringController(GuiceService service) {
+		}
+
+	}
+
+	public static class GuiceService {
+
+		@Inject
+		public GuiceService(SpringRepository repository) {
+		}
+
+	}
+
+}
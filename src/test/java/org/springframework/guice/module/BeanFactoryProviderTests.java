@@ -0,0 +1,168 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.spi.ProvisionListenerBinding;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BeanFactoryProviderTests {
+
+	private static final AtomicInteger created = new AtomicInteger();
+
+	private static final AtomicReference<String> thread = new AtomicReference<>();
+
+	private static volatile CountDownLatch latch = new CountDownLatch(0);
+
+	@Test
+	public void contextIsRefreshedOnceWhenInjectorIsCreated() throws Exception {
+		created.set(0);
+		try (BeanFactoryProvider provider = BeanFactoryProvider.from(RefreshConfig.class)) {
+			Injector injector = Guice.createInjector(new SpringModule(provider), new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Service.class);
+				}
+			});
+			assertThat(created.get()).isEqualTo(1);
+			Service service = injector.getInstance(Service.class);
+			assertThat(service.bean).isSameAs(provider.get().getBean(SpringBean.class));
+			// Injecting another instance does not refresh again
+			assertThat(Guice.createInjector(new SpringModule(provider)).getInstance(Service.class).bean)
+					.isSameAs(service.bean);
+			assertThat(created.get()).isEqualTo(1);
+			// Nothing is added to the provision chain of the bindings
+			assertThat(injector.getElements()).noneMatch((element) -> element instanceof ProvisionListenerBinding);
+		}
+	}
+
+	@Test
+	public void contextIsRefreshedInBackground() throws Exception {
+		created.set(0);
+		latch = new CountDownLatch(1);
+		try (BeanFactoryProvider provider = BeanFactoryProvider.from(RefreshConfig.class).backgroundRefresh(true)) {
+			Injector injector = Guice.createInjector(new SpringModule(provider), new AbstractModule() {
+				@Override
+				protected void configure() {
+					bind(Service.class);
+				}
+			});
+			// The injector is created while the refresh is still waiting
+			assertThat(created.get()).isEqualTo(0);
+			latch.countDown();
+			Service service = injector.getInstance(Service.class);
+			assertThat(created.get()).isEqualTo(1);
+			assertThat(thread.get()).startsWith("spring-guice-refresh-");
+			assertThat(service.bean).isSameAs(provider.get().getBean(SpringBean.class));
+		}
+		finally {
+			latch = new CountDownLatch(0);
+		}
+	}
+
+	@Test
+	public void staticInjectionSeesRefreshedContext() throws Exception {
+		try (BeanFactoryProvider provider = BeanFactoryProvider.from(StaticConfig.class)) {
+			Injector injector = Guice.createInjector(new SpringModule(provider),
+					(binder) -> binder.requestStaticInjection(Holder.class));
+			assertThat(Holder.service.dependency).isNotNull();
+			assertThat(injector.getInstance(AutowiredService.class).dependency).isNotNull();
+		}
+		finally {
+			Holder.service = null;
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class StaticConfig {
+
+		@Bean
+		AutowiredService autowiredService() {
+			return new AutowiredService();
+		}
+
+		@Bean
+		Dependency dependency() {
+			return new Dependency();
+		}
+
+	}
+
+	public static class Holder {
+
+		@Inject
+		static AutowiredService service;
+
+	}
+
+	public static class AutowiredService {
+
+		@Autowired
+		private Dependency dependency;
+
+	}
+
+	public static class Dependency {
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class RefreshConfig {
+
+		@Bean
+		SpringBean springBean() throws InterruptedException {
+			return new SpringBean();
+		}
+
+	}
+
+	public static class SpringBean {
+
+		public SpringBean() throws InterruptedException {
+			latch.await(10, TimeUnit.SECONDS);
+			thread.set(Thread.currentThread().getName());
+			created.incrementAndGet();
+		}
+
+	}
+
+	public static class Service {
+
+		private final SpringBean bean;
+
+		@Inject
+		public Service(SpringBean bean) {
+			this.bean = bean;
+		}
+
+	}
+
+}
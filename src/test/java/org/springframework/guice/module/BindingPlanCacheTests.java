@@ -0,0 +1,172 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.inject.Binding;
+import com.google.inject.Stage;
+import com.google.inject.spi.Elements;
+import com.google.inject.util.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BindingPlanCacheTests {
+
+	@TempDir
+	Path temp;
+
+	private Path file;
+
+	@BeforeEach
+	public void init() {
+		this.file = this.temp.resolve("cache").resolve("bindings.bin");
+	}
+
+	@Test
+	public void candidatesAreReusedAfterRestart() throws Exception {
+		List<String> first = keys(beanFactory(false));
+		assertThat(this.file).exists();
+		assertThat(first).anySatisfy((key) -> assertThat(key).contains(Product.class.getName()));
+		DefaultListableBeanFactory beanFactory = beanFactory(false);
+		BindingPlanCache cache = new BindingPlanCache(this.file);
+		Map<String, BeanCandidates> candidates = cache.load(
+				cache.fingerprint(BindingPlanCache.shape(beanFactory, beanFactory.getBeanDefinitionNames(), -1, false)),
+				getClass().getClassLoader());
+		assertThat(candidates).containsOnlyKeys("product", "names");
+		assertThat(candidates.get("product").getType()).isEqualTo(Product.class);
+		assertThat(types(candidates.get("names"))).contains(Names.class,
+				Types.newParameterizedType(Supplier.class, Types.listOf(String.class)));
+		assertThat(keys(beanFactory)).isEqualTo(first);
+	}
+
+	private static List<Type> types(BeanCandidates candidates) {
+		List<Type> types = new ArrayList<>();
+		for (int i = 0; i < candidates.size(); i++) {
+			types.add(candidates.getType(i));
+		}
+		return types;
+	}
+
+	@Test
+	public void candidatesAreRecomputedWhenBeansChange() throws Exception {
+		List<String> first = keys(beanFactory(false));
+		List<String> second = keys(beanFactory(true));
+		assertThat(second).isNotEqualTo(first);
+		assertThat(second).anySatisfy((key) -> assertThat(key).contains(Extra.class.getName()));
+		assertThat(keys(beanFactory(true))).isEqualTo(second);
+	}
+
+	@Test
+	public void cacheIsInvalidatedWhenAClassInADirectoryChanges() throws Exception {
+		Path classes = Files.createDirectories(this.temp.resolve("classes").resolve("com").resolve("example"));
+		Path type = Files.write(classes.resolve("Product.class"), new byte[] { 1, 2, 3 });
+		FileTime time = Files.getLastModifiedTime(type);
+		DefaultListableBeanFactory beanFactory = beanFactory(false);
+		String shape = BindingPlanCache.shape(beanFactory, beanFactory.getBeanDefinitionNames(), -1, false);
+		BindingPlanCache cache = new BindingPlanCache(this.file);
+		String classPath = System.getProperty("java.class.path");
+		System.setProperty("java.class.path", this.temp.resolve("classes").toString());
+		try {
+			String fingerprint = cache.fingerprint(shape);
+			cache.save(fingerprint, Map.of("names", BeanCandidates.NONE));
+			assertThat(cache.load(cache.fingerprint(shape), getClass().getClassLoader())).containsKey("names");
+			Files.write(type, new byte[] { 4, 5, 6, 7 });
+			Files.setLastModifiedTime(type, FileTime.fromMillis(time.toMillis() + 10_000));
+			assertThat(cache.fingerprint(shape)).isNotEqualTo(fingerprint);
+			assertThat(cache.load(cache.fingerprint(shape), getClass().getClassLoader())).isNull();
+		}
+		finally {
+			System.setProperty("java.class.path", classPath);
+		}
+	}
+
+	@Test
+	public void corruptCacheIsIgnored() throws Exception {
+		List<String> first = keys(beanFactory(false));
+		Files.write(this.file, new byte[] { 1, 2, 3 });
+		assertThat(keys(beanFactory(false))).isEqualTo(first);
+		assertThat(Files.size(this.file)).isGreaterThan(3);
+	}
+
+	private List<String> keys(DefaultListableBeanFactory beanFactory) {
+		List<String> keys = Elements
+				.getElements(Stage.TOOL, new SpringModule(beanFactory).planCache(this.file.toString())).stream()
+				.filter((element) -> element instanceof Binding)
+				.map((element) -> ((Binding<?>) element).getKey().toString()).collect(Collectors.toList());
+		beanFactory.destroySingletons();
+		return keys;
+	}
+
+	private static DefaultListableBeanFactory beanFactory(boolean extra) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("product", new RootBeanDefinition(ProductFactoryBean.class));
+		beanFactory.registerBeanDefinition("names", new RootBeanDefinition(Names.class));
+		if (extra) {
+			beanFactory.registerBeanDefinition("extra", new RootBeanDefinition(Extra.class));
+		}
+		return beanFactory;
+	}
+
+	public static class Product {
+
+	}
+
+	public static class Extra {
+
+	}
+
+	public static class Names implements Supplier<List<String>> {
+
+		@Override
+		public List<String> get() {
+			return List.of();
+		}
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	public static class ProductFactoryBean implements FactoryBean {
+
+		@Override
+		public Object getObject() {
+			return new Product();
+		}
+
+		@Override
+		public Class<?> getObjectType() {
+			return Product.class;
+		}
+
+	}
+
+}
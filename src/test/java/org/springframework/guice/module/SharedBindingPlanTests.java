@@ -0,0 +1,111 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedBindingPlanTests {
+
+	@Test
+	public void planIsSharedByBeanFactoriesWithTheSameDefinitions() {
+		DefaultListableBeanFactory first = beanFactory(Tenant.class);
+		Injector injector = Guice.createInjector(new SpringModule(first).sharedPlan(true));
+		assertThat(injector.getInstance(Api.class)).isSameAs(first.getBean("tenant"));
+		Map<String, BeanCandidates> plan = BindingPlanCache.getShared(shape(first), first.getBeanClassLoader());
+		assertThat(plan).containsKey("tenant");
+		DefaultListableBeanFactory second = beanFactory(Tenant.class);
+		assertThat(BindingPlanCache.getShared(shape(second), second.getBeanClassLoader())).isSameAs(plan);
+		injector = Guice.createInjector(new SpringModule(second).sharedPlan(true));
+		assertThat(injector.getInstance(Api.class)).isSameAs(second.getBean("tenant"));
+		assertThat(injector.getInstance(Api.class)).isNotSameAs(first.getBean("tenant"));
+		first.destroySingletons();
+		second.destroySingletons();
+	}
+
+	@Test
+	public void planIsNotSharedByBeanFactoriesWithDifferentDefinitions() {
+		DefaultListableBeanFactory first = beanFactory(Tenant.class);
+		Guice.createInjector(new SpringModule(first).sharedPlan(true));
+		DefaultListableBeanFactory second = beanFactory(OtherTenant.class);
+		assertThat(shape(second)).isNotEqualTo(shape(first));
+		Injector injector = Guice.createInjector(new SpringModule(second).sharedPlan(true));
+		assertThat(injector.getInstance(Api.class)).isInstanceOf(OtherTenant.class);
+		first.destroySingletons();
+		second.destroySingletons();
+	}
+
+	@Test
+	public void planDoesNotKeepTheClassLoaderAlive() throws Exception {
+		URL classes = Tenant.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader classLoader = new URLClassLoader(new URL[] { classes }, getClass().getClassLoader().getParent());
+		Class<?> type = classLoader.loadClass(Tenant.class.getName());
+		assertThat(type).isNotSameAs(Tenant.class);
+		DefaultListableBeanFactory beanFactory = beanFactory(type);
+		beanFactory.setBeanClassLoader(classLoader);
+		SpringModule module = new SpringModule(beanFactory).sharedPlan(true);
+		Guice.createInjector(module);
+		String shape = shape(beanFactory);
+		assertThat(BindingPlanCache.getShared(shape, classLoader)).containsKey("tenant");
+		WeakReference<ClassLoader> reference = new WeakReference<>(classLoader);
+		beanFactory.destroySingletons();
+		classLoader.close();
+		classLoader = null;
+		type = null;
+		beanFactory = null;
+		module = null;
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertThat(reference.get()).isNull();
+	}
+
+	private static String shape(DefaultListableBeanFactory beanFactory) {
+		return BindingPlanCache.shape(beanFactory, beanFactory.getBeanDefinitionNames(), -1, false);
+	}
+
+	private static DefaultListableBeanFactory beanFactory(Class<?> type) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("tenant", new RootBeanDefinition(type));
+		return beanFactory;
+	}
+
+	public interface Api {
+
+	}
+
+	public static class Tenant implements Api {
+
+	}
+
+	public static class OtherTenant implements Api {
+
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import com.google.inject.CreationException;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class SpringModuleBindingBudgetTests {
+
+	@Test
+	public void nearestSuperTypesAreBoundWithinBudget() {
+		SpringModule module = new SpringModule(new AnnotationConfigApplicationContext(TestConfig.class))
+				.maxSuperTypesPerBean(2).bindingReport(true);
+		Injector injector = Guice.createInjector(module);
+		assertThat(injector.getInstance(Deep.class)).isNotNull();
+		assertThat(injector.getInstance(Top.class)).isNotNull();
+		assertThat(injector.getExistingBinding(Key.get(Middle.class))).isNotNull();
+		assertThat(injector.getExistingBinding(Key.get(Base.class))).isNull();
+		assertThat(injector.getExistingBinding(Key.get(Root.class))).isNull();
+		BindingReport report = module.getBindingReport();
+		assertThat(report.getTopBeans().get(0).getKey()).isEqualTo("deep");
+		assertThat(report.getTopTypes())
+				.anySatisfy((entry) -> assertThat(entry.getKey()).isEqualTo(Middle.class.getName()));
+		assertThat(report.toString()).contains("2 supertypes of 1 beans dropped");
+	}
+
+	@Test
+	public void declaredInterfacesCountTowardsBudget() {
+		SpringModule module = new SpringModule(new AnnotationConfigApplicationContext(WideConfig.class))
+				.maxSuperTypesPerBean(2);
+		Injector injector = Guice.createInjector(module);
+		assertThat(injector.getExistingBinding(Key.get(First.class))).isNotNull();
+		assertThat(injector.getExistingBinding(Key.get(Second.class))).isNotNull();
+		assertThat(injector.getExistingBinding(Key.get(Third.class))).isNull();
+		assertThat(module.getBindingReport()).isNull();
+	}
+
+	@Test
+	public void budgetCanBeEnforced() {
+		SpringModule module = new SpringModule(new AnnotationConfigApplicationContext(TestConfig.class))
+				.maxSuperTypesPerBean(2).failOnBindingBudget(true);
+		assertThatExceptionOfType(CreationException.class).isThrownBy(() -> Guice.createInjector(module))
+				.withMessageContaining("'deep' has 4 supertypes");
+	}
+
+	@Test
+	public void noBudgetByDefault() {
+		Injector injector = Guice
+				.createInjector(new SpringModule(new AnnotationConfigApplicationContext(TestConfig.class)));
+		assertThat(injector.getInstance(Base.class)).isInstanceOf(Deep.class);
+		assertThat(injector.getInstance(Root.class)).isInstanceOf(Deep.class);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class TestConfig {
+
+		@Bean
+		Deep deep() {
+			return new Deep();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class WideConfig {
+
+		@Bean
+		Wide wide() {
+			return new Wide();
+		}
+
+	}
+
+	public interface First {
+
+	}
+
+	public interface Second {
+
+	}
+
+	public interface Third {
+
+	}
+
+	public static class Wide implements First, Second, Third {
+
+	}
+
+	public interface Root {
+
+	}
+
+	public interface Top {
+
+	}
+
+	public static class Base implements Root {
+
+	}
+
+	public static class Middle extends Base {
+
+	}
+
+	public static class Deep extends Middle implements Top {
+
+	}
+
+}
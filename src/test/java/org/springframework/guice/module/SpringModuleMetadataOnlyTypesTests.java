@@ -0,0 +1,105 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpringModuleMetadataOnlyTypesTests {
+
+	private static final AtomicInteger created = new AtomicInteger();
+
+	private DefaultListableBeanFactory beanFactory;
+
+	@BeforeEach
+	public void init() {
+		created.set(0);
+	}
+
+	@AfterEach
+	public void close() {
+		this.beanFactory.destroySingletons();
+	}
+
+	@Test
+	public void factoryBeanIsInstantiatedToFindItsType() {
+		Injector injector = Guice.createInjector(new SpringModule(beanFactory(false)));
+		assertThat(created.get()).isEqualTo(1);
+		assertThat(injector.getInstance(Product.class)).isNotNull();
+	}
+
+	@Test
+	public void factoryBeanIsNotInstantiatedWithMetadataOnlyTypes() {
+		Injector injector = Guice.createInjector(new SpringModule(beanFactory(false)).metadataOnlyTypes(true));
+		assertThat(created.get()).isEqualTo(0);
+		assertThat(injector.getExistingBinding(Key.get(Product.class))).isNull();
+	}
+
+	@Test
+	public void objectTypeAttributeIsUsedWithMetadataOnlyTypes() {
+		Injector injector = Guice.createInjector(new SpringModule(beanFactory(true)).metadataOnlyTypes(true));
+		assertThat(created.get()).isEqualTo(0);
+		assertThat(injector.getInstance(Product.class)).isNotNull();
+		assertThat(created.get()).isEqualTo(1);
+	}
+
+	private DefaultListableBeanFactory beanFactory(boolean objectType) {
+		this.beanFactory = new DefaultListableBeanFactory();
+		RootBeanDefinition definition = new RootBeanDefinition(ProductFactoryBean.class);
+		if (objectType) {
+			definition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, Product.class);
+		}
+		this.beanFactory.registerBeanDefinition("product", definition);
+		return this.beanFactory;
+	}
+
+	public static class Product {
+
+	}
+
+	@SuppressWarnings("rawtypes")
+	public static class ProductFactoryBean implements FactoryBean {
+
+		public ProductFactoryBean() {
+			created.incrementAndGet();
+		}
+
+		@Override
+		public Object getObject() {
+			return new Product();
+		}
+
+		@Override
+		public Class<?> getObjectType() {
+			return Product.class;
+		}
+
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.guice.annotation.EnableGuiceModules;
+import org.springframework.guice.module.SpringModule.NamedBindings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpringModuleNamedBindingsTests {
+
+	@AfterEach
+	public void cleanup() {
+		System.clearProperty("spring.guice.namedBindings");
+	}
+
+	@Test
+	public void allTypesAreNamedByDefault() {
+		Injector injector = createInjector(NamedBindings.ALL);
+		assertThat(injector.getExistingBinding(Key.get(Service.class, Names.named("service")))).isNotNull();
+		assertThat(injector.getExistingBinding(Key.get(Api.class, Names.named("service")))).isNotNull();
+	}
+
+	@Test
+	public void onlyConcreteTypeIsNamed() {
+		Injector injector = createInjector(NamedBindings.CONCRETE_TYPE);
+		assertThat(injector.getExistingBinding(Key.get(Service.class, Names.named("service")))).isNotNull();
+		assertThat(injector.getExistingBinding(Key.get(Api.class, Names.named("service")))).isNull();
+		assertThat(injector.getInstance(Api.class)).isInstanceOf(Service.class);
+	}
+
+	@Test
+	public void noTypesAreNamed() {
+		Injector injector = createInjector(NamedBindings.NONE);
+		assertThat(injector.getExistingBinding(Key.get(Service.class, Names.named("service")))).isNull();
+		assertThat(injector.getExistingBinding(Key.get(Api.class, Names.named("service")))).isNull();
+		assertThat(injector.getInstance(Service.class)).isNotNull();
+	}
+
+	@Test
+	public void modeCanBeSetWithProperty() {
+		System.setProperty("spring.guice.namedBindings", "CONCRETE_TYPE");
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ModulesConfig.class)) {
+			Injector injector = context.getBean(Injector.class);
+			assertThat(injector.getExistingBinding(Key.get(Service.class, Names.named("service")))).isNotNull();
+			assertThat(injector.getExistingBinding(Key.get(Api.class, Names.named("service")))).isNull();
+		}
+	}
+
+	private Injector createInjector(NamedBindings namedBindings) {
+		return Guice.createInjector(new SpringModule(new AnnotationConfigApplicationContext(TestConfig.class))
+				.namedBindings(namedBindings));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class TestConfig {
+
+		@Bean
+		Service service() {
+			return new Service();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableGuiceModules
+	static class ModulesConfig {
+
+		@Bean
+		Service service() {
+			return new Service();
+		}
+
+	}
+
+	public interface Api {
+
+	}
+
+	public static class Service implements Api {
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Stage;
+import com.google.inject.name.Names;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpringModuleParallelPlanningTests {
+
+	@Test
+	public void parallelPlanEmitsTheSameBindingsInTheSameOrder() {
+		DefaultListableBeanFactory beanFactory = beanFactory();
+		List<String> serial = keys(Elements.getElements(Stage.TOOL, new SpringModule(beanFactory)));
+		List<String> parallel = keys(
+				Elements.getElements(Stage.TOOL, new SpringModule(beanFactory).parallelPlanning(true)));
+		assertThat(serial).hasSizeGreaterThan(200);
+		assertThat(parallel).isEqualTo(serial);
+		beanFactory.destroySingletons();
+	}
+
+	@Test
+	public void beansAreBoundWithParallelPlan() {
+		DefaultListableBeanFactory beanFactory = beanFactory();
+		Injector injector = Guice.createInjector(new SpringModule(beanFactory).parallelPlanning(true));
+		assertThat(injector.getInstance(Key.get(Api.class, Names.named("bean5"))))
+				.isSameAs(beanFactory.getBean("bean5"));
+		beanFactory.destroySingletons();
+	}
+
+	@Test
+	public void factoryBeansAreResolvedWhileCreatingABean() throws Exception {
+		DefaultListableBeanFactory beanFactory = beanFactory();
+		beanFactory.registerBeanDefinition("factory", new RootBeanDefinition(ApiFactoryBean.class));
+		// The injector is created while the bean factory holds its singleton lock
+		beanFactory.registerBeanDefinition("injector", new RootBeanDefinition(Injector.class,
+				() -> Guice.createInjector(new SpringModule(beanFactory).parallelPlanning(true))));
+		Injector injector = CompletableFuture.supplyAsync(() -> beanFactory.getBean("injector", Injector.class)).get(30,
+				TimeUnit.SECONDS);
+		assertThat(injector.getInstance(Key.get(Api.class, Names.named("factory"))))
+				.isSameAs(beanFactory.getBean("factory"));
+		beanFactory.destroySingletons();
+	}
+
+	private static List<String> keys(List<Element> elements) {
+		return elements.stream().filter((element) -> element instanceof Binding)
+				.map((element) -> ((Binding<?>) element).getKey().toString()).collect(Collectors.toList());
+	}
+
+	private static DefaultListableBeanFactory beanFactory() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		List<Class<?>> types = List.of(Service.class, FastService.class, SlowService.class);
+		for (int i = 0; i < 100; i++) {
+			beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(types.get(i % types.size())));
+		}
+		return beanFactory;
+	}
+
+	public interface Api {
+
+	}
+
+	public static class Service implements Api {
+
+	}
+
+	public static class FastService extends Service {
+
+	}
+
+	public static class ApiFactoryBean implements FactoryBean<Api> {
+
+		private final Api api = new Service();
+
+		@Override
+		public Api getObject() {
+			return this.api;
+		}
+
+		@Override
+		public Class<?> getObjectType() {
+			return Api.class;
+		}
+
+	}
+
+	public static class SlowService extends FastService implements Runnable {
+
+		@Override
+		public void run() {
+		}
+
+	}
+
+}
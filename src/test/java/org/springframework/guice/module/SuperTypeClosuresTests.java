@@ -0,0 +1,158 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.inject.TypeLiteral;
+import com.google.inject.util.Types;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class SuperTypeClosuresTests {
+
+	private static final Log logger = LogFactory.getLog(SuperTypeClosuresTests.class);
+
+	@Test
+	public void closureIsNearestFirstAndShared() {
+		List<Type> closure = SuperTypeClosures.get(Level3.class, Level3.class);
+		assertThat(closure).containsExactly(Level3.class, Three.class, Level2.class, Two.class, Level1.class, One.class,
+				Level0.class, Root.class, Object.class);
+		assertThat(SuperTypeClosures.get(Level3.class, Level3.class)).isSameAs(closure);
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> closure.add(Object.class));
+	}
+
+	@Test
+	public void genericSuperTypesAreResolved() {
+		Type type = new TypeLiteral<Holder<String>>() {
+		}.getType();
+		assertThat(SuperTypeClosures.get(type, Holder.class)).contains(Holder.class, type,
+				Types.newParameterizedTypeWithOwner(SuperTypeClosuresTests.class, Supplier.class, String.class));
+	}
+
+	@Test
+	public void deepHierarchyIsCheaperWhenCached() {
+		assertThat(SuperTypeClosures.get(Level7.class, Level7.class))
+				.isEqualTo(SuperTypeClosures.resolve(Level7.class, Level7.class)).hasSize(17);
+		int iterations = 20_000;
+		// Once to warm up, once to measure
+		time(iterations, (type) -> SuperTypeClosures.resolve(type, type));
+		time(iterations, (type) -> SuperTypeClosures.get(type, type));
+		long uncached = time(iterations, (type) -> SuperTypeClosures.resolve(type, type));
+		long cached = time(iterations, (type) -> SuperTypeClosures.get(type, type));
+		logger.info(String.format("Resolved %d closures of a deep hierarchy in %d us (uncached) and %d us (cached)",
+				iterations, uncached / 1_000, cached / 1_000));
+		assertThat(cached).isLessThan(uncached);
+	}
+
+	private static long time(int iterations, Function<Class<?>, List<Type>> closure) {
+		long size = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			size += closure.apply(Level7.class).size();
+		}
+		long nanos = System.nanoTime() - start;
+		assertThat(size).isEqualTo(17L * iterations);
+		return nanos;
+	}
+
+	public interface Root {
+
+	}
+
+	public interface One extends Root {
+
+	}
+
+	public interface Two extends One {
+
+	}
+
+	public interface Three extends Two {
+
+	}
+
+	public interface Four extends Three {
+
+	}
+
+	public interface Five extends Four {
+
+	}
+
+	public interface Six extends Five {
+
+	}
+
+	public interface Seven extends Six {
+
+	}
+
+	public interface Supplier<T> {
+
+		T get();
+
+	}
+
+	public static class Level0 implements Root {
+
+	}
+
+	public static class Level1 extends Level0 implements One {
+
+	}
+
+	public static class Level2 extends Level1 implements Two {
+
+	}
+
+	public static class Level3 extends Level2 implements Three {
+
+	}
+
+	public static class Level4 extends Level3 implements Four {
+
+	}
+
+	public static class Level5 extends Level4 implements Five {
+
+	}
+
+	public static class Level6 extends Level5 implements Six {
+
+	}
+
+	public static class Level7 extends Level6 implements Seven {
+
+	}
+
+	public static class Holder<T> implements Supplier<T> {
+
+		@Override
+		public T get() {
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.module;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import com.google.inject.util.Types;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeArgumentsTests {
+
+	@Test
+	public void loadableClassesArePresentWithoutLookup() {
+		int size = TypeArguments.size();
+		assertThat(TypeArguments.arePresent((ParameterizedType) Types.listOf(String.class))).isTrue();
+		assertThat(TypeArguments.arePresent((ParameterizedType) Types.mapOf(String.class, Entity.class))).isTrue();
+		assertThat(TypeArguments.size()).isEqualTo(size);
+	}
+
+	@Test
+	public void nonClassArgumentsAreNotPresent() {
+		assertThat(TypeArguments.arePresent((ParameterizedType) Types.listOf(Types.listOf(String.class)))).isFalse();
+		assertThat(TypeArguments.arePresent((ParameterizedType) Types.listOf(Types.subtypeOf(Entity.class)))).isFalse();
+	}
+
+	@Test
+	public void missingClassesAreCached() throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+			Class<?> hidden = Proxy
+					.newProxyInstance(classLoader, new Class<?>[] { Api.class }, (proxy, method, args) -> null)
+					.getClass();
+			ParameterizedType type = (ParameterizedType) Types.listOf(hidden);
+			int size = TypeArguments.size();
+			assertThat(TypeArguments.arePresent(type)).isFalse();
+			assertThat(TypeArguments.size()).isEqualTo(size + 1);
+			assertThat(TypeArguments.arePresent(type)).isFalse();
+			assertThat(TypeArguments.size()).isEqualTo(size + 1);
+		}
+	}
+
+	public interface Api {
+
+	}
+
+	public static class Entity {
+
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2013-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.guice.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.inject.AbstractModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.guice.annotation.DeterministicModule;
+import org.springframework.guice.annotation.EnableGuiceModules;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContextManager;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ElementCacheContextCustomizerFactoryTests {
+
+	private static final AtomicInteger recordings = new AtomicInteger();
+
+	private final List<TestContextManager> managers = new ArrayList<>();
+
+	@BeforeEach
+	public void init() {
+		recordings.set(0);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		for (TestContextManager manager : this.managers) {
+			manager.getTestContext().markApplicationContextDirty(null);
+		}
+	}
+
+	@Test
+	public void annotatedTestContextsShareRecordedElements() {
+		ApplicationContext first = context(FirstTests.class);
+		ApplicationContext second = context(SecondTests.class);
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.getEnvironment().getProperty("spring.guice.elementCache")).isEqualTo("true");
+		assertThat(first.getBean(Service.class)).isNotNull();
+		assertThat(second.getBean(Service.class)).isNotNull().isNotSameAs(first.getBean(Service.class));
+		assertThat(recordings.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void explicitSettingWins() {
+		ApplicationContext context = context(DisabledTests.class);
+		assertThat(context.getEnvironment().getProperty("spring.guice.elementCache")).isEqualTo("false");
+	}
+
+	@Test
+	public void otherTestClassesAreNotCustomized() {
+		ElementCacheContextCustomizerFactory factory = new ElementCacheContextCustomizerFactory();
+		assertThat(factory.createContextCustomizer(PlainTests.class, Collections.emptyList())).isNull();
+		// Equal customizers, so that the test contexts can still be cached
+		assertThat(factory.createContextCustomizer(FirstTests.class, Collections.emptyList()))
+				.isEqualTo(factory.createContextCustomizer(SecondTests.class, Collections.emptyList()));
+	}
+
+	private ApplicationContext context(Class<?> testClass) {
+		TestContextManager manager = new TestContextManager(testClass);
+		this.managers.add(manager);
+		return manager.getTestContext().getApplicationContext();
+	}
+
+	@EnableGuiceElementCache
+	@ContextConfiguration(classes = FirstConfig.class)
+	static class FirstTests {
+
+	}
+
+	@EnableGuiceElementCache
+	@ContextConfiguration(classes = SecondConfig.class)
+	static class SecondTests {
+
+	}
+
+	@EnableGuiceElementCache
+	@ContextConfiguration(classes = FirstConfig.class)
+	@TestPropertySource(properties = "spring.guice.elementCache=false")
+	static class DisabledTests {
+
+	}
+
+	@ContextConfiguration(classes = FirstConfig.class)
+	static class PlainTests {
+
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class FirstConfig {
+
+		@Bean
+		static ServiceModule serviceModule() {
+			return new ServiceModule();
+		}
+
+	}
+
+	@Configuration
+	@EnableGuiceModules
+	static class SecondConfig {
+
+		@Bean
+		static ServiceModule serviceModule() {
+			return new ServiceModule();
+		}
+
+		@Bean
+		Other other() {
+			return new Other();
+		}
+
+	}
+
+	@DeterministicModule
+	public static class ServiceModule extends AbstractModule {
+
+		@Override
+		protected void configure() {
+			recordings.incrementAndGet();
+			bind(Service.class);
+		}
+
+	}
+
+	public static class Service {
+
+	}
+
+	public static class Other {
+
+	}
+
+}